@@ -0,0 +1,47 @@
+package academy.benchmark;
+
+import academy.maze.Generate.ChooseGenerator;
+import academy.maze.Generate.Generator;
+import academy.maze.dto.Maze;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class GeneratorBenchmark {
+
+    @Param({"10", "100", "1000", "4000"})
+    private int size;
+
+    @Param({"dfs", "prim", "parallel-dfs", "kruskal", "eller"})
+    private String algorithm;
+
+    @Param({"42"})
+    private long seed;
+
+    private Generator generator;
+
+    @Setup
+    public void setUp() {
+        generator = ChooseGenerator.choose(algorithm);
+    }
+
+    @Benchmark
+    public Maze generate() {
+        return generator.generate(size, size, seed);
+    }
+}
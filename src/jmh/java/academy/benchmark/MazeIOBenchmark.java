@@ -0,0 +1,63 @@
+package academy.benchmark;
+
+import academy.maze.Generate.GenerationDFS;
+import academy.maze.IO.MazeIO;
+import academy.maze.dto.Maze;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class MazeIOBenchmark {
+    private static final long MAZE_SEED = 42;
+
+    @Param({"10", "100", "1000", "4000"})
+    private int size;
+
+    private Maze maze;
+    private File source;
+    private File target;
+
+    @Setup
+    public void setUp() throws IOException {
+        maze = new GenerationDFS().generate(size, size, MAZE_SEED);
+        source = Files.createTempFile("maze-bench-source", ".txt").toFile();
+        target = Files.createTempFile("maze-bench-target", ".txt").toFile();
+        MazeIO.saveToFile(maze, source, null);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(source.toPath());
+        Files.deleteIfExists(target.toPath());
+    }
+
+    @Benchmark
+    public Maze load() {
+        return MazeIO.loadFromFile(source);
+    }
+
+    @Benchmark
+    public File save() {
+        MazeIO.saveToFile(maze, target, null);
+        return target;
+    }
+}
@@ -0,0 +1,37 @@
+package academy.benchmark;
+
+import academy.maze.dto.Maze;
+import academy.maze.dto.Point;
+import java.util.Random;
+
+/** Расстановка начальной и конечной точки для бенчмарков решателей. */
+public enum Placement {
+    /** Из левого верхнего угла в правый нижний. */
+    CORNERS,
+    /** Из центра в правый нижний угол. */
+    CENTER,
+    /** Две случайные клетки с фиксированным зерном. */
+    RANDOM;
+
+    private static final long SEED = 42;
+
+    Point[] pick(Maze maze) {
+        int cellsX = maze.x() / 2, cellsY = maze.y() / 2;
+        Point corner = cell(cellsX - 1, cellsY - 1);
+        return switch (this) {
+            case CORNERS -> new Point[] {cell(0, 0), corner};
+            case CENTER -> new Point[] {cell(cellsX / 2, cellsY / 2), corner};
+            case RANDOM -> {
+                Random random = new Random(SEED);
+                yield new Point[] {
+                    cell(random.nextInt(cellsX), random.nextInt(cellsY)),
+                    cell(random.nextInt(cellsX), random.nextInt(cellsY))
+                };
+            }
+        };
+    }
+
+    private static Point cell(int x, int y) {
+        return new Point(2 * x + 1, 2 * y + 1);
+    }
+}
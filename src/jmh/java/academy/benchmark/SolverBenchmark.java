@@ -0,0 +1,58 @@
+package academy.benchmark;
+
+import academy.maze.Generate.GenerationDFS;
+import academy.maze.Solve.ChooseSolver;
+import academy.maze.Solve.Solver;
+import academy.maze.dto.Maze;
+import academy.maze.dto.Path;
+import academy.maze.dto.Point;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class SolverBenchmark {
+    private static final long MAZE_SEED = 42;
+
+    @Param({"10", "100", "1000", "4000"})
+    private int size;
+
+    @Param({"dijkstra", "astar", "dial", "bidijkstra", "biastar", "corridor-dijkstra", "corridor-astar", "tree", "jps"})
+    private String algorithm;
+
+    @Param({"CORNERS", "CENTER", "RANDOM"})
+    private Placement placement;
+
+    private Solver solver;
+    private Maze maze;
+    private Point start;
+    private Point end;
+
+    @Setup
+    public void setUp() {
+        solver = ChooseSolver.choose(algorithm);
+        maze = new GenerationDFS().generate(size, size, MAZE_SEED);
+        Point[] points = placement.pick(maze);
+        start = points[0];
+        end = points[1];
+    }
+
+    @Benchmark
+    public Path solve() {
+        return solver.solve(maze, start, end);
+    }
+}
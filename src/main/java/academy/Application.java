@@ -2,22 +2,39 @@ package academy;
 
 import academy.maze.Generate.ChooseGenerator;
 import academy.maze.Generate.Generator;
+import academy.maze.Generate.StreamingGenerator;
+import academy.maze.IO.MazeCache;
+import academy.maze.IO.MazeFormat;
 import academy.maze.IO.MazeIO;
+import academy.maze.IO.MazeRowWriter;
+import academy.maze.IO.MazeTextWriter;
+import academy.maze.Server.MazeServer;
+import academy.maze.Solve.BatchSolver;
 import academy.maze.Solve.ChooseSolver;
+import academy.maze.Solve.PathCache;
+import academy.maze.Solve.SolveScheduler;
 import academy.maze.Solve.Solver;
 import academy.maze.View.MazeWindow;
-import academy.maze.dto.CellType;
 import academy.maze.dto.Maze;
 import academy.maze.dto.Path;
 import academy.maze.dto.Point;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.ObjectReader;
 import com.fasterxml.jackson.dataformat.yaml.YAMLFactory;
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
 import java.io.File;
 import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
 import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
+import java.time.Duration;
 import java.util.Arrays;
+import java.util.Iterator;
+import java.util.concurrent.ThreadLocalRandom;
 import javax.swing.JOptionPane;
 import javax.swing.SwingUtilities;
 import org.slf4j.Logger;
@@ -31,11 +48,19 @@ import picocli.CommandLine.Option;
         description = "Maze generator and solver CLI application.",
         version = "1.0",
         mixinStandardHelpOptions = true,
-        subcommands = {Application.GenerateCommand.class, Application.SolveCommand.class})
+        subcommands = {
+            Application.GenerateCommand.class,
+            Application.SolveCommand.class,
+            Application.SolveBatchCommand.class,
+            Application.ServeCommand.class
+        })
 public class Application implements Runnable {
     private static final Logger LOGGER = LoggerFactory.getLogger(Application.class);
     private static final ObjectReader YAML_READER =
             new ObjectMapper(new YAMLFactory()).findAndRegisterModules().reader();
+    private static final long PATH_CACHE_BYTES = 64L << 20;
+    private static final long MAZE_CACHE_BYTES = 256L << 20;
+    private static final long SERVED_MAZE_BYTES = 256L << 20;
 
     @Command(name = "generate", description = "Generate a maze with specified algorithm and dimensions.")
     static class GenerateCommand implements Runnable {
@@ -65,18 +90,53 @@ public class Application implements Runnable {
         @Option(names = "--window", description = "Show graphical window", defaultValue = "false")
         private boolean showWindow;
 
+        @Option(names = "--format", description = "Output file format: text or bin", defaultValue = "text")
+        private String format;
+
+        @Option(names = "--seed", description = "Random seed, the same seed always gives the same maze")
+        private Long seed;
+
+        @Option(
+                names = "--stream",
+                description = "Write the maze to the output file row by row without keeping it in memory",
+                defaultValue = "false")
+        private boolean stream;
+
         public void run() {
             validateDimensions(width, height);
+            MazeFormat mazeFormat = MazeFormat.parse(format);
             Generator gen = ChooseGenerator.choose(algorithm);
             if (gen == null) {
                 throw new IllegalArgumentException("Unknown algorithm: " + algorithm);
             }
-            Maze res = gen.generate(width, height);
+            long mazeSeed = seed != null ? seed : ThreadLocalRandom.current().nextLong();
+            if (stream) {
+                streamMaze(gen, mazeFormat, mazeSeed);
+                return;
+            }
+            Maze res = gen.generate(width, height, mazeSeed);
 
             showWindowIfRequested(showWindow, res, null);
 
             if (output != null) {
-                MazeIO.saveToFile(res, output, null);
+                MazeIO.saveToFile(res, output, null, mazeFormat);
+            }
+        }
+
+        private void streamMaze(Generator gen, MazeFormat mazeFormat, long mazeSeed) {
+            if (!(gen instanceof StreamingGenerator streaming)) {
+                throw new IllegalArgumentException("Algorithm " + algorithm + " does not support --stream");
+            }
+            if (output == null) {
+                throw new IllegalArgumentException("--stream requires --output");
+            }
+            if (showWindow) {
+                throw new IllegalArgumentException("--window cannot be used with --stream");
+            }
+            try (MazeRowWriter writer = MazeIO.openRowWriter(output, 2 * width + 1, 2 * height + 1, mazeFormat)) {
+                streaming.stream(width, height, mazeSeed, writer);
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to save maze to " + output.getAbsolutePath(), e);
             }
         }
     }
@@ -115,12 +175,20 @@ public class Application implements Runnable {
         @Option(names = "--window", description = "Show graphical window", defaultValue = "false")
         private boolean showWindow;
 
+        @Option(names = "--format", description = "Input and output file format: text or bin", defaultValue = "text")
+        private String format;
+
+        @Option(names = "--path-cache", description = "File with paths found by earlier runs, updated after solving")
+        private File pathCache;
+
         public void run() {
             Point startPoint;
             Point endPoint;
+            MazeFormat mazeFormat;
             try {
-                startPoint = parse(start);
-                endPoint = parse(end);
+                startPoint = Point.parse(start);
+                endPoint = Point.parse(end);
+                mazeFormat = MazeFormat.parse(format);
             } catch (IllegalArgumentException e) {
                 System.out.println(e.getMessage());
                 return;
@@ -131,7 +199,7 @@ public class Application implements Runnable {
                 return;
             }
 
-            Maze maze = MazeIO.loadFromFile(file);
+            Maze maze = MazeIO.loadFromFile(file, mazeFormat);
 
             if (!inBounds(startPoint, maze) || !inBounds(endPoint, maze)) {
                 System.out.println("Start or end point is out of maze bounds");
@@ -147,8 +215,10 @@ public class Application implements Runnable {
             if (solver == null) {
                 throw new IllegalArgumentException("Unknown algorithm: " + algorithm);
             }
-            Path path = solver.solve(maze, startPoint, endPoint);
-            if (path == null || path.points().length == 0) {
+            Path path = pathCache != null
+                    ? solveCached(solver, maze, startPoint, endPoint)
+                    : solver.solve(maze, startPoint, endPoint);
+            if (path == null || path.isEmpty()) {
                 System.out.println("Path was not found.");
                 JOptionPane.showMessageDialog(null, "Path was not found.", "Error", JOptionPane.ERROR_MESSAGE);
                 return;
@@ -156,74 +226,202 @@ public class Application implements Runnable {
 
             showWindowIfRequested(showWindow, maze, path);
 
-            if (output != null) {
+            if (output != null && mazeFormat == MazeFormat.BIN) {
+                MazeIO.saveToFile(maze, output, path, mazeFormat);
+            } else if (output != null) {
                 saveSolvedMaze(maze, path, output.toPath());
             }
         }
 
-        private Point parse(String s) {
-            if (s == null) {
-                throw new IllegalArgumentException("Invalid point format: null, expected format: x,y");
-            }
-            String[] parts = s.split(",");
-            if (parts.length != 2) {
-                throw new IllegalArgumentException("Invalid point format: " + s + ", expected format: x,y");
-            }
+        private Path solveCached(Solver solver, Maze maze, Point startPoint, Point endPoint) {
+            PathCache cache = new PathCache(PATH_CACHE_BYTES);
             try {
-                int px = Integer.parseInt(parts[0].trim());
-                int py = Integer.parseInt(parts[1].trim());
-                return new Point(px, py);
-            } catch (NumberFormatException e) {
-                throw new IllegalArgumentException("Invalid point format: " + s + ", expected format: x,y", e);
+                if (pathCache.exists()) {
+                    cache.load(pathCache.toPath());
+                }
+                Path path = cache.solve(solver, algorithm.toLowerCase(), maze, startPoint, endPoint);
+                cache.save(pathCache.toPath());
+                return path;
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
             }
         }
 
-        private boolean inBounds(Point p, Maze maze) {
-            return p.x() >= 0 && p.x() < maze.x() && p.y() >= 0 && p.y() < maze.y();
-        }
-
-        private boolean isPathCell(Point p, Maze maze) {
-            return maze.cells()[p.x()][p.y()] == CellType.PATH;
-        }
-
         private void saveSolvedMaze(Maze maze, Path path, java.nio.file.Path outputPath) {
             try {
                 java.nio.file.Path parent = outputPath.toAbsolutePath().getParent();
                 if (parent != null) {
                     Files.createDirectories(parent);
                 }
-                CellType[][] cells = maze.cells();
-                char[][] picture = new char[maze.x()][maze.y()];
-                for (int i = 0; i < maze.x(); i++) {
-                    for (int j = 0; j < maze.y(); j++) {
-                        picture[i][j] = cells[i][j] == CellType.WALL ? '#' : ' ';
-                    }
-                }
+                MazeTextWriter.write(maze, outputPath, path, true);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
 
-                if (path != null && path.points().length > 0) {
-                    Point[] points = path.points();
-                    for (int i = 0; i < points.length; i++) {
-                        Point point = points[i];
-                        char mark = '.';
-                        if (i == 0) {
-                            mark = 'O';
-                        } else if (i == points.length - 1) {
-                            mark = 'X';
-                        }
-                        picture[point.x()][point.y()] = mark;
-                    }
-                }
+    @Command(name = "solve-batch", description = "Solve many start/end queries against one loaded maze.")
+    static class SolveBatchCommand implements Runnable {
+
+        @Option(
+                names = {"-a", "--algorithm"},
+                description = "Choose algorithm for build Maze",
+                required = true)
+        private String algorithm;
+
+        @Option(
+                names = {"-f", "--file"},
+                description = "Input file with Maze",
+                required = true)
+        private File file;
+
+        @Option(
+                names = {"-q", "--queries"},
+                description = "File with one \"x,y x,y\" query per line, standard input if not set")
+        private File queries;
+
+        @Option(
+                names = {"-o", "--output"},
+                description = "Output file for answers, standard output if not set")
+        private File output;
 
-                StringBuilder sb = new StringBuilder();
-                for (int i = 0; i < picture.length; i++) {
-                    sb.append(picture[i]);
-                    sb.append(System.lineSeparator());
+        @Option(names = "--threads", description = "Number of worker threads, all processors if not set")
+        private Integer threads;
+
+        @Option(names = "--format", description = "Maze file format: text or bin", defaultValue = "text")
+        private String format;
+
+        public void run() {
+            MazeFormat mazeFormat = MazeFormat.parse(format);
+            if (ChooseSolver.choose(algorithm) == null) {
+                throw new IllegalArgumentException("Unknown algorithm: " + algorithm);
+            }
+            int workers = threads != null ? threads : Runtime.getRuntime().availableProcessors();
+            Maze maze = MazeIO.loadFromFile(file, mazeFormat);
+
+            try (BatchSolver batch = new BatchSolver(() -> ChooseSolver.choose(algorithm), workers)) {
+                // стандартные потоки не закрываем, только файлы
+                BufferedReader reader = openQueries();
+                BufferedWriter writer = openAnswers();
+                try {
+                    Iterator<String> lines = reader.lines().filter(line -> !line.isBlank()).iterator();
+                    batch.solveAll(
+                            lines, (solver, line) -> answer(solver, maze, line), result -> writeLine(writer, result));
+                    writer.flush();
+                } finally {
+                    if (queries != null) reader.close();
+                    if (output != null) writer.close();
                 }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        private static void writeLine(BufferedWriter writer, String line) {
+            try {
+                writer.write(line);
+                writer.newLine();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        private BufferedReader openQueries() throws IOException {
+            return queries != null
+                    ? Files.newBufferedReader(queries.toPath())
+                    : new BufferedReader(new InputStreamReader(System.in, StandardCharsets.UTF_8));
+        }
+
+        private BufferedWriter openAnswers() throws IOException {
+            return output != null
+                    ? Files.newBufferedWriter(output.toPath())
+                    : new BufferedWriter(new OutputStreamWriter(System.out, StandardCharsets.UTF_8));
+        }
+
+        /**
+         * Ответ на одну строку запроса: {@code "x,y x,y n x,y;x,y;..."}, где {@code n} — число шагов пути, {@code "x,y
+         * x,y -1"}, если пути нет, или {@code "error: ..."} для некорректного запроса.
+         */
+        static String answer(Solver solver, Maze maze, String line) {
+            String[] parts = line.trim().split("\\s+");
+            if (parts.length != 2) {
+                return "error: Invalid query: " + line.trim() + ", expected format: x,y x,y";
+            }
+            Point startPoint;
+            Point endPoint;
+            try {
+                startPoint = Point.parse(parts[0]);
+                endPoint = Point.parse(parts[1]);
+            } catch (IllegalArgumentException e) {
+                return "error: " + e.getMessage();
+            }
+            if (!inBounds(startPoint, maze) || !inBounds(endPoint, maze)) {
+                return "error: Start or end point is out of maze bounds";
+            }
+            if (!isPathCell(startPoint, maze) || !isPathCell(endPoint, maze)) {
+                return "error: Start or end point is inside a wall";
+            }
+
+            Path path = solver.solve(maze, startPoint, endPoint);
+            StringBuilder result = new StringBuilder()
+                    .append(parts[0].trim())
+                    .append(' ')
+                    .append(parts[1].trim())
+                    .append(' ')
+                    .append(path.length() - 1);
+            for (int i = 0; i < path.length(); i++) {
+                result.append(i == 0 ? ' ' : ';').append(path.row(i)).append(',').append(path.col(i));
+            }
+            return result.toString();
+        }
+    }
+
+    @Command(name = "serve", description = "Keep mazes in memory and serve a local HTTP API.")
+    static class ServeCommand implements Runnable {
+
+        @Option(names = "--host", description = "Address to listen on", defaultValue = "127.0.0.1")
+        private String host;
 
-                Files.writeString(outputPath, sb.toString());
+        @Option(names = "--port", description = "Port to listen on, any free port if 0", defaultValue = "8080")
+        private int port;
+
+        @Option(names = "--root", description = "Directory that mazes may be loaded from", defaultValue = ".")
+        private File root;
+
+        @Option(names = "--max-in-flight", description = "Solve requests run at once, all processors if not set")
+        private Integer maxInFlight;
+
+        @Option(
+                names = "--max-waiting",
+                description = "Solve requests that may wait, the rest are rejected",
+                defaultValue = "1000")
+        private int maxWaiting;
+
+        @Option(names = "--queue-timeout", description = "Milliseconds a solve request may wait", defaultValue = "1000")
+        private long queueTimeout;
+
+        public void run() {
+            int inFlight = maxInFlight != null ? maxInFlight : Runtime.getRuntime().availableProcessors();
+            SolveScheduler scheduler = new SolveScheduler(inFlight, maxWaiting, Duration.ofMillis(queueTimeout));
+            MazeServer server;
+            try {
+                server = new MazeServer(
+                        new InetSocketAddress(host, port),
+                        root.toPath(),
+                        SERVED_MAZE_BYTES,
+                        new MazeCache(MAZE_CACHE_BYTES),
+                        new PathCache(PATH_CACHE_BYTES),
+                        scheduler);
             } catch (IOException e) {
+                scheduler.close();
                 throw new UncheckedIOException(e);
             }
+            Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+                server.close();
+                scheduler.close();
+            }));
+            server.start();
+            System.out.println("Listening on http://" + host + ":" + server.port());
         }
     }
 
@@ -252,6 +450,14 @@ public class Application implements Runnable {
         }
     }
 
+    private static boolean inBounds(Point p, Maze maze) {
+        return p.x() >= 0 && p.x() < maze.x() && p.y() >= 0 && p.y() < maze.y();
+    }
+
+    private static boolean isPathCell(Point p, Maze maze) {
+        return maze.isPath(p.x(), p.y());
+    }
+
     private static void showWindowIfRequested(boolean showWindow, Maze maze, Path path) {
         if (!showWindow) {
             return;
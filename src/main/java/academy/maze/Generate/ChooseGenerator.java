@@ -9,6 +9,9 @@ public class ChooseGenerator {
         return switch (word.toLowerCase()) {
             case "prim" -> new GenerationPrima();
             case "dfs" -> new GenerationDFS();
+            case "parallel-dfs" -> new GenerationParallelDFS();
+            case "kruskal" -> new GenerationKruskal();
+            case "eller" -> new GenerationEller();
             default -> null;
         };
     }
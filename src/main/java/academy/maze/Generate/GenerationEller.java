@@ -0,0 +1,134 @@
+package academy.maze.Generate;
+
+import academy.maze.HelpAlgorithm.DisjointSet;
+import academy.maze.IO.MazeRowWriter;
+import academy.maze.dto.BitGrid;
+import academy.maze.dto.Maze;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+/**
+ * Алгоритм Эллера: лабиринт строится по одной строке клеток, в памяти хранятся только номера множеств текущей строки.
+ * Соседние клетки из разных множеств случайно соединяются, затем каждое множество хотя бы одной клеткой уходит вниз, а
+ * остальные клетки следующей строки получают новые множества. В последней строке соединяется всё, что ещё не связано.
+ * Номера множеств всегда меньше ширины строки, поэтому память — {@code O(ширина)} при любой высоте.
+ */
+public class GenerationEller implements StreamingGenerator {
+    public Maze generate(int x, int y, long seed) {
+        GridWriter writer = new GridWriter(new BitGrid(2 * x + 1, 2 * y + 1));
+        try {
+            stream(x, y, seed, writer);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return new Maze(writer.grid);
+    }
+
+    public void stream(int x, int y, long seed, MazeRowWriter writer) throws IOException {
+        Coins random = new Coins(new SplittableRandom(seed));
+        long[] line = new long[(2 * y + 1 + 63) >>> 6];
+        int[] set = new int[y];
+        int[] members = new int[y];
+        boolean[] down = new boolean[y];
+        DisjointSet sets = new DisjointSet(y);
+        for (int c = 0; c < y; c++) {
+            set[c] = c;
+        }
+
+        writer.writeRow(line);
+        for (int r = 0; r < x; r++) {
+            boolean last = r == x - 1;
+
+            Arrays.fill(line, 0);
+            sets.clear();
+            open(line, 1);
+            for (int c = 0; c + 1 < y; c++) {
+                open(line, 2 * c + 3);
+                if ((last || random.nextBoolean()) && sets.union(set[c], set[c + 1])) {
+                    open(line, 2 * c + 2);
+                }
+            }
+            writer.writeRow(line);
+
+            Arrays.fill(line, 0);
+            if (!last) {
+                Arrays.fill(members, 0);
+                Arrays.fill(down, false);
+                for (int c = 0; c < y; c++) {
+                    set[c] = sets.find(set[c]);
+                    members[set[c]]++;
+                }
+                for (int c = 0; c < y; c++) {
+                    int s = set[c];
+                    if (--members[s] == 0 && !down[s] || random.nextBoolean()) {
+                        down[s] = true;
+                        open(line, 2 * c + 1);
+                    } else {
+                        set[c] = -1;
+                    }
+                }
+                // down[] больше не нужен и служит отметкой занятых номеров для новых множеств
+                int free = 0;
+                for (int c = 0; c < y; c++) {
+                    if (set[c] >= 0) continue;
+                    while (down[free]) {
+                        free++;
+                    }
+                    set[c] = free;
+                    down[free] = true;
+                }
+            }
+            writer.writeRow(line);
+        }
+    }
+
+    private static void open(long[] line, int col) {
+        line[col >>> 6] |= 1L << col;
+    }
+
+    /** Случайные биты выдаются по одному из 64-битного слова, чтобы не вызывать генератор на каждое решение. */
+    private static final class Coins {
+        private final SplittableRandom random;
+        private long bits;
+        private int left;
+
+        Coins(SplittableRandom random) {
+            this.random = random;
+        }
+
+        boolean nextBoolean() {
+            if (left == 0) {
+                bits = random.nextLong();
+                left = 64;
+            }
+            left--;
+            boolean result = (bits & 1) != 0;
+            bits >>>= 1;
+            return result;
+        }
+    }
+
+    private static final class GridWriter implements MazeRowWriter {
+        private final BitGrid grid;
+        private int row;
+
+        GridWriter(BitGrid grid) {
+            this.grid = grid;
+        }
+
+        @Override
+        public void writeRow(long[] line) {
+            for (int col = 0; col < grid.cols(); col++) {
+                if ((line[col >>> 6] & (1L << col)) != 0) {
+                    grid.setPath(row, col);
+                }
+            }
+            row++;
+        }
+
+        @Override
+        public void close() {}
+    }
+}
@@ -0,0 +1,63 @@
+package academy.maze.Generate;
+
+import academy.maze.HelpAlgorithm.DisjointSet;
+import academy.maze.dto.BitGrid;
+import academy.maze.dto.Maze;
+import java.util.SplittableRandom;
+
+/**
+ * Рандомизированный алгоритм Краскала. Стены между соседними клетками нумеруются подряд: сначала {@code x * (y - 1)}
+ * вертикальных (справа от клетки), затем {@code (x - 1) * y} горизонтальных (снизу от клетки). Номера перемешиваются
+ * тасованием Фишера — Йетса прямо в {@code int[]}, и стена открывается, если разделяет разные компоненты
+ * {@link DisjointSet}. Перемешивание идёт лениво, по одной стене, и останавливается, когда все клетки связаны.
+ *
+ * <p>Все стены должны поместиться в один {@code int[]}, поэтому размеры проверяются заранее.
+ */
+public class GenerationKruskal implements Generator {
+    private static final int MAX_SIDE = (Integer.MAX_VALUE - 1) / 2;
+    private static final int MAX_WALLS = Integer.MAX_VALUE - 8;
+
+    public Maze generate(int x, int y, long seed) {
+        if (x <= 0 || y <= 0) {
+            throw new IllegalArgumentException("Maze dimensions must be positive: " + x + "x" + y);
+        }
+        if (x > MAX_SIDE || y > MAX_SIDE || (long) x * (y - 1) + (long) (x - 1) * y > MAX_WALLS) {
+            throw new IllegalArgumentException("Maze is too large for Kruskal's algorithm: " + x + "x" + y);
+        }
+        BitGrid grid = new BitGrid(2 * x + 1, 2 * y + 1);
+        int cells = x * y;
+        for (int cx = 0; cx < x; cx++) {
+            for (int cy = 0; cy < y; cy++) {
+                grid.setPath(2 * cx + 1, 2 * cy + 1);
+            }
+        }
+
+        int rightWalls = x * (y - 1);
+        int[] walls = new int[rightWalls + (x - 1) * y];
+        for (int i = 0; i < walls.length; i++) {
+            walls[i] = i;
+        }
+
+        SplittableRandom random = new SplittableRandom(seed);
+        DisjointSet sets = new DisjointSet(cells);
+        for (int n = walls.length; n > 0 && sets.sets() > 1; n--) {
+            int j = random.nextInt(n);
+            int wall = walls[j];
+            walls[j] = walls[n - 1];
+            walls[n - 1] = wall;
+
+            if (wall < rightWalls) {
+                int cx = wall / (y - 1), cy = wall % (y - 1);
+                if (sets.union(cx * y + cy, cx * y + cy + 1)) {
+                    grid.setPath(2 * cx + 1, 2 * cy + 2);
+                }
+            } else {
+                int cell = wall - rightWalls;
+                if (sets.union(cell, cell + y)) {
+                    grid.setPath(2 * (cell / y) + 2, 2 * (cell % y) + 1);
+                }
+            }
+        }
+        return new Maze(grid);
+    }
+}
@@ -0,0 +1,89 @@
+package academy.maze.Generate;
+
+import academy.maze.dto.BitGrid;
+import academy.maze.dto.Maze;
+import java.util.SplittableRandom;
+import java.util.stream.IntStream;
+
+/**
+ * Параллельная генерация: поле клеток режется на квадратные плитки, каждая плитка заполняется
+ * {@link RecursiveBacktracker} в пуле ForkJoin, затем плитки сшиваются по случайному остовному дереву — на каждое ребро
+ * дерева открывается ровно одна стена на общей границе. Объединение деревьев плиток и дерева между плитками остаётся
+ * деревом, поэтому лабиринт идеальный. Каждая плитка получает свой поток {@link SplittableRandom}, так что результат
+ * определяется только зерном и не зависит от расписания потоков.
+ */
+public class GenerationParallelDFS implements Generator {
+    static final int DEFAULT_TILE_SIZE = 128;
+
+    private final int tileSize;
+
+    public GenerationParallelDFS() {
+        this(DEFAULT_TILE_SIZE);
+    }
+
+    public GenerationParallelDFS(int tileSize) {
+        if (tileSize <= 0) {
+            throw new IllegalArgumentException("Tile size must be positive: " + tileSize);
+        }
+        this.tileSize = tileSize;
+    }
+
+    public Maze generate(int x, int y, long seed) {
+        BitGrid grid = new BitGrid(2 * x + 1, 2 * y + 1);
+        int tilesX = (x + tileSize - 1) / tileSize, tilesY = (y + tileSize - 1) / tileSize;
+        int tiles = tilesX * tilesY;
+
+        SplittableRandom root = new SplittableRandom(seed);
+        SplittableRandom[] randoms = new SplittableRandom[tiles];
+        for (int t = 0; t < tiles; t++) {
+            randoms[t] = root.split();
+        }
+
+        RecursiveBacktracker carver = new RecursiveBacktracker(grid, true);
+        IntStream.range(0, tiles).parallel().forEach(t -> {
+            int x0 = (t / tilesY) * tileSize, y0 = (t % tilesY) * tileSize;
+            carver.carve(x0, y0, Math.min(tileSize, x - x0), Math.min(tileSize, y - y0), randoms[t]);
+        });
+
+        stitch(new RecursiveBacktracker(grid, false), x, y, tilesX, tilesY, root);
+        return new Maze(grid);
+    }
+
+    /** Случайный DFS по графу плиток: на каждом шаге открывается одна стена между текущей плиткой и новой. */
+    private void stitch(RecursiveBacktracker carver, int x, int y, int tilesX, int tilesY, SplittableRandom random) {
+        int tiles = tilesX * tilesY;
+        boolean[] visited = new boolean[tiles];
+        int[] stack = new int[tiles];
+        int[] candidates = new int[4];
+        int top = 0;
+        visited[0] = true;
+        stack[top++] = 0;
+        while (top > 0) {
+            int current = stack[top - 1];
+            int tx = current / tilesY, ty = current % tilesY;
+            int count = 0;
+            if (tx > 0 && !visited[current - tilesY]) candidates[count++] = current - tilesY;
+            if (tx + 1 < tilesX && !visited[current + tilesY]) candidates[count++] = current + tilesY;
+            if (ty > 0 && !visited[current - 1]) candidates[count++] = current - 1;
+            if (ty + 1 < tilesY && !visited[current + 1]) candidates[count++] = current + 1;
+            if (count == 0) {
+                top--;
+                continue;
+            }
+            int next = candidates[random.nextInt(count)];
+            int first = Math.min(current, next);
+            int fx = first / tilesY, fy = first % tilesY;
+            if (Math.abs(next - current) == tilesY) {
+                int borderX = (fx + 1) * tileSize - 1;
+                int from = fy * tileSize, to = Math.min(from + tileSize, y);
+                carver.openWall(borderX, from + random.nextInt(to - from), true);
+            } else {
+                int borderY = (fy + 1) * tileSize - 1;
+                int from = fx * tileSize, to = Math.min(from + tileSize, x);
+                carver.openWall(from + random.nextInt(to - from), borderY, false);
+            }
+            visited[next] = true;
+            stack[top++] = next;
+        }
+    }
+}
@@ -1,33 +1,29 @@
 package academy.maze.Generate;
 
 import academy.maze.HelpAlgorithm.Edge;
-import academy.maze.dto.CellType;
+import academy.maze.dto.BitGrid;
 import academy.maze.dto.Maze;
 import java.util.PriorityQueue;
-import java.util.concurrent.ThreadLocalRandom;
+import java.util.SplittableRandom;
 
 public class GenerationPrima implements Generator {
 
-    public Maze generate(int x, int y) {
+    public Maze generate(int x, int y, long seed) {
         // размеры либиринта
         int rows = 2 * x + 1;
         int cols = 2 * y + 1;
 
-        CellType[][] cell = new CellType[rows][cols];
-        for (int i = 0; i < rows; i++) {
-            for (int j = 0; j < cols; j++) {
-                cell[i][j] = CellType.WALL;
-            }
-        }
+        BitGrid cell = new BitGrid(rows, cols);
         boolean[][] visited = new boolean[x][y];
         PriorityQueue<Edge> edges = new PriorityQueue<>();
+        SplittableRandom random = new SplittableRandom(seed);
 
         int startX = 0, startY = 0;
         int startGridX = 2 * startX + 1, startGridY = 2 * startY + 1;
-        cell[startGridX][startGridY] = CellType.PATH;
+        cell.setPath(startGridX, startGridY);
         visited[startX][startY] = true;
 
-        addEdge(startX, startY, visited, edges, x, y);
+        addEdge(startX, startY, visited, edges, x, y, random);
         while (!edges.isEmpty()) {
             Edge e = edges.poll();
             int x1 = e.GetX1(), y1 = e.GetY1();
@@ -55,20 +51,20 @@ public class GenerationPrima implements Generator {
             int fromGridX = 2 * fromX + 1, fromGridY = 2 * fromY + 1;
             int toGridX = 2 * toX + 1, toGridY = 2 * toY + 1;
 
-            cell[toGridX][toGridY] = CellType.PATH;
+            cell.setPath(toGridX, toGridY);
 
             int midX = fromGridX + ((toGridX - fromGridX) / 2);
             int midY = fromGridY + ((toGridY - fromGridY) / 2);
-            cell[midX][midY] = CellType.PATH;
+            cell.setPath(midX, midY);
 
-            addEdge(toX, toY, visited, edges, x, y);
+            addEdge(toX, toY, visited, edges, x, y, random);
         }
 
-        return new Maze(cell, rows, cols);
+        return new Maze(cell);
     }
 
-    private void addEdge(int x, int y, boolean[][] visited, PriorityQueue<Edge> queue, int rows, int cols) {
-        ThreadLocalRandom random = ThreadLocalRandom.current();
+    private void addEdge(
+            int x, int y, boolean[][] visited, PriorityQueue<Edge> queue, int rows, int cols, SplittableRandom random) {
         if (x > 0 && !visited[x - 1][y]) queue.add(new Edge(x, y, x - 1, y, random.nextInt(10) + 1));
         if (x + 1 < rows && !visited[x + 1][y]) queue.add(new Edge(x, y, x + 1, y, random.nextInt(10) + 1));
         if (y > 0 && !visited[x][y - 1]) queue.add(new Edge(x, y, x, y - 1, random.nextInt(10) + 1));
@@ -1,17 +1,31 @@
 package academy.maze.Generate;
 
 import academy.maze.dto.Maze;
+import java.util.concurrent.ThreadLocalRandom;
 
 /** Генератор лабиринта */
 public interface Generator {
 
     /**
-     * Генерирует лабиринт.
+     * Генерирует лабиринт со случайным зерном.
      *
      * @param width ширина лабиринта.
      * @param height высота лабиринта.
      * @return лабиринт
      * @throws IllegalArgumentException если невозможно сгенерировать лабиринт.
      */
-    Maze generate(int width, int height);
+    default Maze generate(int width, int height) {
+        return generate(width, height, ThreadLocalRandom.current().nextLong());
+    }
+
+    /**
+     * Генерирует лабиринт, полностью определяемый зерном: одно и то же зерно всегда даёт один и тот же лабиринт.
+     *
+     * @param width ширина лабиринта.
+     * @param height высота лабиринта.
+     * @param seed зерно генератора случайных чисел.
+     * @return лабиринт
+     * @throws IllegalArgumentException если невозможно сгенерировать лабиринт.
+     */
+    Maze generate(int width, int height, long seed);
 }
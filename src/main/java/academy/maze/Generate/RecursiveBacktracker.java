@@ -0,0 +1,98 @@
+package academy.maze.Generate;
+
+import academy.maze.dto.BitGrid;
+import java.util.random.RandomGenerator;
+
+/**
+ * Рекурсивный поиск с возвратом (DFS) по прямоугольному участку клеток лабиринта. Стек хранится в заранее выделенном
+ * {@code int[]} индексов клеток, непосещённые соседи собираются в битовую маску, а проходы сразу пишутся в сетку.
+ * Посещённой считается клетка, уже открытая в сетке, поэтому отдельного массива посещений нет. Соседи перебираются в
+ * порядке вверх, вниз, влево, вправо, и случайный выбирается одним вызовом {@code nextInt}.
+ */
+final class RecursiveBacktracker {
+    private static final int UP = 1;
+    private static final int DOWN = 2;
+    private static final int LEFT = 4;
+    private static final int RIGHT = 8;
+
+    private final BitGrid grid;
+    private final boolean concurrent;
+
+    /**
+     * @param grid сетка лабиринта, клетка {@code (x, y)} лежит в ячейке {@code (2x + 1, 2y + 1)}.
+     * @param concurrent писать в сетку атомарно, если соседние участки заполняются параллельно.
+     */
+    RecursiveBacktracker(BitGrid grid, boolean concurrent) {
+        this.grid = grid;
+        this.concurrent = concurrent;
+    }
+
+    /** Строит остовное дерево участка клеток {@code [x0, x0 + rows) x [y0, y0 + cols)}, начиная с его угла. */
+    void carve(int x0, int y0, int rows, int cols, RandomGenerator random) {
+        int[] stack = new int[Math.multiplyExact(rows, cols)];
+        int top = 0;
+        long step = 2L * grid.cols();
+
+        int cx = 0, cy = 0;
+        open(2 * x0 + 1, 2 * y0 + 1);
+        stack[top++] = 0;
+        while (true) {
+            int gx = 2 * (x0 + cx) + 1, gy = 2 * (y0 + cy) + 1;
+            long g = gx * (long) grid.cols() + gy;
+
+            int mask = 0;
+            if (cx > 0 && !grid.isPath(g - step)) mask |= UP;
+            if (cx + 1 < rows && !grid.isPath(g + step)) mask |= DOWN;
+            if (cy > 0 && !grid.isPath(g - 2)) mask |= LEFT;
+            if (cy + 1 < cols && !grid.isPath(g + 2)) mask |= RIGHT;
+            if (mask == 0) {
+                if (--top == 0) return;
+                int current = stack[top - 1];
+                cx = current / cols;
+                cy = current % cols;
+                continue;
+            }
+
+            int direction = nthSetBit(mask, random.nextInt(Integer.bitCount(mask)));
+            int dx = 0, dy = 0;
+            if (direction == UP) {
+                dx = -1;
+            } else if (direction == DOWN) {
+                dx = 1;
+            } else if (direction == LEFT) {
+                dy = -1;
+            } else {
+                dy = 1;
+            }
+            open(gx + dx, gy + dy);
+            open(gx + 2 * dx, gy + 2 * dy);
+            cx += dx;
+            cy += dy;
+            stack[top++] = cx * cols + cy;
+        }
+    }
+
+    /** Открывает стену между клеткой {@code (x, y)} и её соседом снизу ({@code down}) или справа. */
+    void openWall(int x, int y, boolean down) {
+        if (down) {
+            open(2 * x + 2, 2 * y + 1);
+        } else {
+            open(2 * x + 1, 2 * y + 2);
+        }
+    }
+
+    private void open(int row, int col) {
+        if (concurrent) {
+            grid.setPathConcurrent(row, col);
+        } else {
+            grid.setPath(row, col);
+        }
+    }
+
+    private static int nthSetBit(int mask, int n) {
+        for (int i = 0; i < n; i++) {
+            mask &= mask - 1;
+        }
+        return Integer.lowestOneBit(mask);
+    }
+}
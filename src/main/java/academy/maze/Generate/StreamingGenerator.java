@@ -0,0 +1,20 @@
+package academy.maze.Generate;
+
+import academy.maze.IO.MazeRowWriter;
+import java.io.IOException;
+
+/** Генератор, который отдаёт лабиринт построчно и не держит его в памяти целиком */
+public interface StreamingGenerator extends Generator {
+
+    /**
+     * Генерирует лабиринт и пишет его строки сетки ({@code 2 * width + 1} строк по {@code 2 * height + 1} ячеек) по
+     * порядку сверху вниз.
+     *
+     * @param width ширина лабиринта.
+     * @param height высота лабиринта.
+     * @param seed зерно генератора случайных чисел, см. {@link Generator#generate(int, int, long)}.
+     * @param writer получатель строк, закрывает его вызывающий код.
+     * @throws IOException если не удалось записать строку.
+     */
+    void stream(int width, int height, long seed, MazeRowWriter writer) throws IOException;
+}
@@ -0,0 +1,94 @@
+package academy.maze.HelpAlgorithm;
+
+import java.util.Arrays;
+
+/**
+ * Циклическая очередь с корзинами (алгоритм Дайала) для целых весов ребёр от 0 до {@code maxWeight}. Все ключи в
+ * очереди лежат в окне {@code [cursor, cursor + maxWeight]}, поэтому хватает {@code maxWeight + 1} корзин. Корзины —
+ * двусвязные списки на массивах {@code next}/{@code prev}, уменьшение ключа и извлечение минимума работают за O(1) без
+ * выделения памяти.
+ */
+public final class BucketQueue {
+    private final int[] head;
+    private final int[] next;
+    private final int[] prev;
+    private final int[] key;
+    private final boolean[] queued;
+    private int size;
+    private int cursor;
+
+    public BucketQueue(int capacity, int maxWeight) {
+        if (maxWeight < 0) {
+            throw new IllegalArgumentException("Max weight must be non-negative: " + maxWeight);
+        }
+        this.head = new int[maxWeight + 1];
+        this.next = new int[capacity];
+        this.prev = new int[capacity];
+        this.key = new int[capacity];
+        this.queued = new boolean[capacity];
+        Arrays.fill(head, -1);
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Добавляет элемент или переносит его в корзину с меньшим ключом. Ключ не может быть меньше последнего извлечённого
+     * и больше него на {@code maxWeight}.
+     */
+    public void push(int item, int priority) {
+        if (queued[item]) {
+            if (priority >= key[item]) return;
+            unlink(item);
+        } else {
+            queued[item] = true;
+            size++;
+        }
+        key[item] = priority;
+        int bucket = priority % head.length;
+        int first = head[bucket];
+        next[item] = first;
+        prev[item] = -1;
+        if (first >= 0) prev[first] = item;
+        head[bucket] = item;
+    }
+
+    public int poll() {
+        int bucket = cursor % head.length;
+        while (head[bucket] < 0) {
+            cursor++;
+            bucket = cursor % head.length;
+        }
+        int item = head[bucket];
+        unlink(item);
+        queued[item] = false;
+        size--;
+        return item;
+    }
+
+    public int priority(int item) {
+        return key[item];
+    }
+
+    public void clear() {
+        for (int bucket = 0; bucket < head.length; bucket++) {
+            for (int item = head[bucket]; item >= 0; item = next[item]) {
+                queued[item] = false;
+            }
+            head[bucket] = -1;
+        }
+        size = 0;
+        cursor = 0;
+    }
+
+    private void unlink(int item) {
+        int before = prev[item], after = next[item];
+        if (before >= 0) {
+            next[before] = after;
+        } else {
+            head[key[item] % head.length] = after;
+        }
+        if (after >= 0) prev[after] = before;
+    }
+}
@@ -2,20 +2,65 @@ package academy.maze.HelpAlgorithm;
 
 import academy.maze.dto.Path;
 import academy.maze.dto.Point;
-import java.util.ArrayList;
-import java.util.Collections;
-import java.util.List;
 
 public class BuilderPath {
     public static Path buildPath(Point[][] parent, Point start, Point end) {
-        List<Point> path = new ArrayList<>();
+        int length = 1;
+        for (Point current = end; !current.equals(start) && parent[current.x()][current.y()] != null; ) {
+            current = parent[current.x()][current.y()];
+            length++;
+        }
+        Point[] points = new Point[length];
         Point current = end;
-        while (current != null) {
-            path.add(current);
-            if (current.equals(start)) break;
+        for (int i = length - 1; i >= 0; i--) {
+            points[i] = current;
             current = parent[current.x()][current.y()];
         }
-        Collections.reverse(path);
-        return new Path(path.toArray(Point[]::new));
+        return new Path(points);
+    }
+
+    /**
+     * Восстанавливает путь по массиву родителей, где ячейка закодирована индексом {@code row * cols + col}, а у
+     * стартовой ячейки родителя нет ({@code -1}).
+     */
+    public static Path buildPath(int[] parent, int cols, int start, int end) {
+        int length = 1;
+        for (int current = end; current != start; current = parent[current]) {
+            length++;
+        }
+        int[] cells = new int[length];
+        int current = end;
+        for (int i = length - 1; i >= 0; i--) {
+            cells[i] = current;
+            current = parent[current];
+        }
+        return Path.of(cells, cols);
+    }
+
+    /**
+     * Склеивает путь двунаправленного поиска: от {@code start} до {@code meet} по родителям прямого поиска и от
+     * {@code meet} до {@code end} по родителям обратного.
+     */
+    public static Path buildPath(int[] forwardParent, int[] backwardParent, int cols, int start, int meet, int end) {
+        int head = 1;
+        for (int current = meet; current != start; current = forwardParent[current]) {
+            head++;
+        }
+        int length = head;
+        for (int current = meet; current != end; current = backwardParent[current]) {
+            length++;
+        }
+        int[] cells = new int[length];
+        int current = meet;
+        for (int i = head - 1; i >= 0; i--) {
+            cells[i] = current;
+            current = forwardParent[current];
+        }
+        current = meet;
+        for (int i = head; i < length; i++) {
+            current = backwardParent[current];
+            cells[i] = current;
+        }
+        return Path.of(cells, cols);
     }
 }
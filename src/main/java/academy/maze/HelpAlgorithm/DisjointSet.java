@@ -0,0 +1,67 @@
+package academy.maze.HelpAlgorithm;
+
+import java.util.Arrays;
+
+/**
+ * Система непересекающихся множеств над элементами {@code 0..size-1} со сжатием путей и объединением по рангу. Родители
+ * и ранги хранятся в массивах примитивов, после создания структура ничего не выделяет.
+ */
+public final class DisjointSet {
+    private final int[] parent;
+    private final byte[] rank;
+    private int sets;
+
+    public DisjointSet(int size) {
+        this.parent = new int[size];
+        this.rank = new byte[size];
+        clear();
+    }
+
+    /** Снова разносит все элементы по отдельным множествам. */
+    public void clear() {
+        for (int i = 0; i < parent.length; i++) {
+            parent[i] = i;
+        }
+        Arrays.fill(rank, (byte) 0);
+        sets = parent.length;
+    }
+
+    /** Представитель множества, в котором лежит элемент. */
+    public int find(int item) {
+        int root = item;
+        while (parent[root] != root) {
+            root = parent[root];
+        }
+        while (parent[item] != root) {
+            int next = parent[item];
+            parent[item] = root;
+            item = next;
+        }
+        return root;
+    }
+
+    /**
+     * Объединяет множества двух элементов.
+     *
+     * @return {@code true}, если элементы лежали в разных множествах.
+     */
+    public boolean union(int a, int b) {
+        int rootA = find(a), rootB = find(b);
+        if (rootA == rootB) return false;
+        if (rank[rootA] < rank[rootB]) {
+            parent[rootA] = rootB;
+        } else if (rank[rootA] > rank[rootB]) {
+            parent[rootB] = rootA;
+        } else {
+            parent[rootB] = rootA;
+            rank[rootA]++;
+        }
+        sets--;
+        return true;
+    }
+
+    /** Количество различных множеств. */
+    public int sets() {
+        return sets;
+    }
+}
@@ -0,0 +1,99 @@
+package academy.maze.HelpAlgorithm;
+
+import java.util.Arrays;
+
+/**
+ * Двоичная куча над индексами ячеек {@code 0..capacity-1} с операцией уменьшения приоритета. Приоритет и индекс
+ * упакованы в один {@code long} ({@code priority << 32 | item}), поэтому при равных приоритетах первым извлекается
+ * меньший индекс, а после создания куча ничего не выделяет.
+ */
+public final class IndexedMinHeap {
+    private final long[] heap;
+    private final int[] position;
+    private int size;
+
+    public IndexedMinHeap(int capacity) {
+        this.heap = new long[capacity];
+        this.position = new int[capacity];
+        Arrays.fill(position, -1);
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean contains(int item) {
+        return position[item] >= 0;
+    }
+
+    /** Добавляет элемент или уменьшает его приоритет. Больший приоритет для уже добавленного элемента игнорируется. */
+    public void push(int item, int priority) {
+        long key = ((long) priority << 32) | item;
+        int pos = position[item];
+        if (pos < 0) {
+            pos = size++;
+        } else if (key >= heap[pos]) {
+            return;
+        }
+        siftUp(pos, key);
+    }
+
+    public int peekPriority() {
+        return (int) (heap[0] >> 32);
+    }
+
+    public int poll() {
+        long top = heap[0];
+        int item = (int) top;
+        position[item] = -1;
+        size--;
+        if (size > 0) {
+            siftDown(0, heap[size]);
+        }
+        return item;
+    }
+
+    public void clear() {
+        for (int i = 0; i < size; i++) {
+            position[(int) heap[i]] = -1;
+        }
+        size = 0;
+    }
+
+    private void siftUp(int pos, long key) {
+        while (pos > 0) {
+            int parent = (pos - 1) >>> 1;
+            long parentKey = heap[parent];
+            if (parentKey <= key) break;
+            place(pos, parentKey);
+            pos = parent;
+        }
+        place(pos, key);
+    }
+
+    private void siftDown(int pos, long key) {
+        int half = size >>> 1;
+        while (pos < half) {
+            int child = 2 * pos + 1;
+            long childKey = heap[child];
+            int right = child + 1;
+            if (right < size && heap[right] < childKey) {
+                child = right;
+                childKey = heap[right];
+            }
+            if (key <= childKey) break;
+            place(pos, childKey);
+            pos = child;
+        }
+        place(pos, key);
+    }
+
+    private void place(int pos, long key) {
+        heap[pos] = key;
+        position[(int) key] = pos;
+    }
+}
@@ -0,0 +1,65 @@
+package academy.maze.HelpAlgorithm;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Гистограмма задержек с корзинами по степеням двойки микросекунд: корзина {@code k} считает задержки от
+ * {@code 2^(k-1)} до {@code 2^k} мкс. Запись — одно сложение в {@link LongAdder}, поэтому гистограмму можно
+ * обновлять из многих потоков без блокировок. Процентили оцениваются верхней границей корзины, то есть завышены не
+ * больше чем вдвое.
+ */
+public final class LatencyHistogram {
+    private static final int BUCKETS = 64;
+
+    private final LongAdder[] counts = new LongAdder[BUCKETS];
+    private final AtomicLong max = new AtomicLong();
+
+    public LatencyHistogram() {
+        for (int i = 0; i < BUCKETS; i++) {
+            counts[i] = new LongAdder();
+        }
+    }
+
+    public void record(long nanos) {
+        long micros = Math.max(0, nanos / 1000);
+        counts[BUCKETS - Long.numberOfLeadingZeros(micros)].increment();
+        max.accumulateAndGet(micros, Math::max);
+    }
+
+    /** Снимок не строго согласован: записи, идущие во время снятия, могут попасть в него частично. */
+    public Snapshot snapshot() {
+        long[] buckets = new long[BUCKETS];
+        long total = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            buckets[i] = counts[i].sum();
+            total += buckets[i];
+        }
+        long maxMicros = max.get();
+        return new Snapshot(
+                total,
+                percentile(buckets, total, 0.5, maxMicros),
+                percentile(buckets, total, 0.9, maxMicros),
+                percentile(buckets, total, 0.99, maxMicros),
+                maxMicros);
+    }
+
+    private static long percentile(long[] buckets, long total, double quantile, long maxMicros) {
+        long rank = (long) Math.ceil(total * quantile);
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += buckets[i];
+            if (seen >= rank && seen > 0) {
+                return Math.min(i == 0 ? 0 : 1L << Math.min(i, 62), maxMicros);
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * Задержки в микросекундах.
+     *
+     * @param count количество записей.
+     */
+    public record Snapshot(long count, long p50Micros, long p90Micros, long p99Micros, long maxMicros) {}
+}
@@ -0,0 +1,353 @@
+package academy.maze.IO;
+
+import academy.maze.dto.BitGrid;
+import academy.maze.dto.CostGrid;
+import academy.maze.dto.Maze;
+import academy.maze.dto.Path;
+import academy.maze.dto.Terrain;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.CRC32C;
+
+/**
+ * Бинарный формат лабиринта. Все числа little-endian:
+ *
+ * <pre>
+ * 0   4 байта  магия "MAZE"
+ * 4   1 байт   версия формата (1, или 2, если записаны покрытия)
+ * 5   1 байт   флаги: 1 — в конце есть контрольная сумма, 2 — записан путь, 4 — записаны покрытия
+ * 6   2 байта  зарезервировано (0)
+ * 8   int32    количество строк
+ * 12  int32    количество столбцов
+ * 16  int64[]  ячейки {@link BitGrid}, по 64 на слово, 1 — проход
+ *     byte[]   стоимость {@link Terrain} каждой ячейки в порядке обхода по строкам, если установлен флаг покрытий
+ *     int32    длина пути, int64 индекс первой точки {@code row * cols + col} и по 2 бита на каждый следующий шаг
+ *              (0 — вниз, 1 — вверх, 2 — вправо, 3 — влево), если установлен флаг пути
+ *     int32    CRC32C всех предыдущих байт, если установлен флаг контрольной суммы
+ * </pre>
+ *
+ * <p>Файл читается и пишется через {@link FileChannel} буфером фиксированного размера. Лабиринт занимает один бит на
+ * ячейку, то есть примерно в 8 раз меньше текстового формата.
+ */
+public final class MazeBinaryIO {
+    static final int MAGIC = 'M' | 'A' << 8 | 'Z' << 16 | 'E' << 24;
+    static final byte VERSION = 1;
+    static final byte VERSION_TERRAIN = 2;
+    static final int FLAG_CHECKSUM = 1;
+    static final int FLAG_PATH = 2;
+    static final int FLAG_TERRAIN = 4;
+
+    private static final int HEADER_SIZE = 16;
+    private static final int[] MOVE_ROW = {1, -1, 0, 0};
+    private static final int[] MOVE_COL = {0, 0, 1, -1};
+    private static final int BUFFER_SIZE = 1 << 20;
+
+    private MazeBinaryIO() {}
+
+    public static void save(Maze maze, java.nio.file.Path file, Path path) throws IOException {
+        BitGrid grid = maze.grid();
+        CostGrid costs = maze.costs();
+        int length = path != null ? path.length() : 0;
+        int flags = FLAG_CHECKSUM | (length > 0 ? FLAG_PATH : 0) | (costs != null ? FLAG_TERRAIN : 0);
+
+        try (FileChannel channel = FileChannel.open(
+                file, StandardOpenOption.WRITE, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            Writer writer = new Writer(channel);
+            ByteBuffer buffer = writer.buffer;
+            byte version = costs != null ? VERSION_TERRAIN : VERSION;
+            buffer.putInt(MAGIC).put(version).put((byte) flags).putShort((short) 0);
+            buffer.putInt(grid.rows()).putInt(grid.cols());
+            for (int i = 0; i < grid.words(); i++) {
+                writer.ensure(Long.BYTES);
+                buffer.putLong(grid.word(i));
+            }
+            if (costs != null) {
+                int size = costs.rows() * costs.cols();
+                for (int i = 0; i < size; i++) {
+                    writer.ensure(1);
+                    buffer.put((byte) costs.cost(i));
+                }
+            }
+            if (length > 0) {
+                writer.ensure(Integer.BYTES + Long.BYTES);
+                buffer.putInt(length);
+                buffer.putLong((long) path.row(0) * grid.cols() + path.col(0));
+                int packed = 0;
+                for (int i = 1; i < length; i++) {
+                    packed |= move(path, i) << (2 * ((i - 1) & 3));
+                    if ((i & 3) == 0 || i == length - 1) {
+                        writer.ensure(1);
+                        buffer.put((byte) packed);
+                        packed = 0;
+                    }
+                }
+            }
+            writer.flush();
+            buffer.putInt((int) writer.crc.getValue());
+            writer.write();
+        }
+    }
+
+    /**
+     * Открывает файл для построчной записи лабиринта {@code rows x cols} без пути. Число строк пишется в заголовок
+     * заранее, поэтому при закрытии проверяется, что записаны ровно {@code rows} строк.
+     */
+    public static MazeRowWriter rowWriter(java.nio.file.Path file, int rows, int cols) throws IOException {
+        FileChannel channel = FileChannel.open(
+                file, StandardOpenOption.WRITE, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING);
+        RowWriter writer = new RowWriter(new Writer(channel), rows, cols);
+        writer.writer.buffer.putInt(MAGIC).put(VERSION).put((byte) FLAG_CHECKSUM).putShort((short) 0);
+        writer.writer.buffer.putInt(rows).putInt(cols);
+        return writer;
+    }
+
+    public static Maze load(java.nio.file.Path file) throws IOException {
+        return read(file, false).maze;
+    }
+
+    /** Загружает путь, сохранённый вместе с лабиринтом. Если пути в файле нет, возвращается путь длины 0. */
+    public static Path loadPath(java.nio.file.Path file) throws IOException {
+        return read(file, true).path;
+    }
+
+    private static Content read(java.nio.file.Path file, boolean withPath) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            Reader reader = new Reader(channel, file);
+            ByteBuffer buffer = reader.buffer;
+            reader.require(HEADER_SIZE);
+            if (buffer.getInt() != MAGIC) {
+                throw new IllegalArgumentException("Not a binary maze file: " + file.toAbsolutePath());
+            }
+            byte version = buffer.get();
+            if (version != VERSION && version != VERSION_TERRAIN) {
+                throw new IllegalArgumentException("Unsupported binary maze version " + version + ": "
+                        + file.toAbsolutePath());
+            }
+            int flags = buffer.get();
+            buffer.getShort();
+            int rows = buffer.getInt(), cols = buffer.getInt();
+            if (rows <= 0 || cols <= 0) {
+                throw new IllegalArgumentException("Invalid maze size " + rows + "x" + cols + " in binary maze file: "
+                        + file.toAbsolutePath());
+            }
+            // размеры сверяются с файлом до выделения сетки, чтобы испорченный заголовок не занял всю память
+            long cellCount = (long) rows * cols;
+            long expectedSize = HEADER_SIZE + ((cellCount + 63) >>> 6) * Long.BYTES;
+            if ((flags & FLAG_TERRAIN) != 0) expectedSize += cellCount;
+            if ((flags & FLAG_PATH) != 0) expectedSize += Integer.BYTES + Long.BYTES;
+            if ((flags & FLAG_CHECKSUM) != 0) expectedSize += Integer.BYTES;
+            reader.requireSize(expectedSize);
+
+            BitGrid grid = new BitGrid(rows, cols);
+            for (int i = 0; i < grid.words(); i++) {
+                reader.require(Long.BYTES);
+                grid.setWord(i, buffer.getLong());
+            }
+            CostGrid costs = null;
+            if ((flags & FLAG_TERRAIN) != 0) {
+                costs = new CostGrid(rows, cols);
+                int size = rows * cols;
+                for (int i = 0; i < size; i++) {
+                    reader.require(1);
+                    int cost = buffer.get() & 0xFF;
+                    Terrain terrain = Terrain.ofCost(cost);
+                    if (terrain == null) {
+                        throw new IllegalArgumentException("Unknown terrain cost " + cost + " in binary maze file: "
+                                + file.toAbsolutePath());
+                    }
+                    if (terrain != Terrain.PATH) costs.set(i, terrain);
+                }
+            }
+
+            Path path = Path.empty();
+            if ((flags & FLAG_PATH) != 0) {
+                reader.require(Integer.BYTES + Long.BYTES);
+                int length = buffer.getInt();
+                long cell = buffer.getLong();
+                if (length < 1 || length > cellCount) {
+                    throw new IllegalArgumentException("Invalid path length " + length + " in binary maze file: "
+                            + file.toAbsolutePath());
+                }
+                if (cell < 0 || cell >= cellCount) {
+                    throw new IllegalArgumentException("Path starts outside the maze in binary maze file: "
+                            + file.toAbsolutePath());
+                }
+                reader.requireSize(expectedSize + (length + 2L) / 4);
+                if (withPath && cellCount > Integer.MAX_VALUE) {
+                    throw new IllegalArgumentException("Maze is too large to load its path: " + rows + "x" + cols);
+                }
+                int[] cells = withPath ? new int[length] : null;
+                if (withPath) cells[0] = (int) cell;
+                int row = (int) (cell / cols), col = (int) (cell % cols);
+                int packed = 0;
+                for (int i = 1; i < length; i++) {
+                    if (((i - 1) & 3) == 0) {
+                        reader.require(1);
+                        packed = buffer.get();
+                    }
+                    int move = (packed >>> (2 * ((i - 1) & 3))) & 3;
+                    row += MOVE_ROW[move];
+                    col += MOVE_COL[move];
+                    if (row < 0 || row >= rows || col < 0 || col >= cols) {
+                        throw new IllegalArgumentException("Path leaves the maze at step " + i
+                                + " in binary maze file: " + file.toAbsolutePath());
+                    }
+                    if (withPath) cells[i] = row * cols + col;
+                }
+                if (withPath) path = Path.of(cells, cols);
+            }
+
+            if ((flags & FLAG_CHECKSUM) != 0) {
+                int expected = (int) reader.checksum();
+                reader.require(Integer.BYTES);
+                if (buffer.getInt() != expected) {
+                    throw new IllegalArgumentException("Binary maze file is corrupted: " + file.toAbsolutePath());
+                }
+            }
+            return new Content(new Maze(grid, costs), path);
+        }
+    }
+
+    /** Код шага из точки {@code i - 1} пути в точку {@code i}. */
+    private static int move(Path path, int i) {
+        int dr = path.row(i) - path.row(i - 1), dc = path.col(i) - path.col(i - 1);
+        for (int move = 0; move < MOVE_ROW.length; move++) {
+            if (MOVE_ROW[move] == dr && MOVE_COL[move] == dc) return move;
+        }
+        throw new IllegalArgumentException(
+                "Path points " + path.point(i - 1) + " and " + path.point(i) + " are not adjacent");
+    }
+
+    private record Content(Maze maze, Path path) {}
+
+    private static final class Writer {
+        private final FileChannel channel;
+        private final ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+        private final CRC32C crc = new CRC32C();
+
+        Writer(FileChannel channel) {
+            this.channel = channel;
+        }
+
+        void ensure(int bytes) throws IOException {
+            if (buffer.remaining() < bytes) flush();
+        }
+
+        void flush() throws IOException {
+            crc.update(buffer.array(), 0, buffer.position());
+            write();
+        }
+
+        void write() throws IOException {
+            buffer.flip();
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            buffer.clear();
+        }
+    }
+
+    /** Склеивает строки в непрерывный поток бит: строка не обязана начинаться с границы слова. */
+    private static final class RowWriter implements MazeRowWriter {
+        private final Writer writer;
+        private final int rows;
+        private final int cols;
+        private int written;
+        private long pending;
+        private int pendingBits;
+
+        RowWriter(Writer writer, int rows, int cols) {
+            this.writer = writer;
+            this.rows = rows;
+            this.cols = cols;
+        }
+
+        @Override
+        public void writeRow(long[] row) throws IOException {
+            if (written == rows) {
+                throw new IllegalStateException("Maze already has " + rows + " rows");
+            }
+            int full = cols >>> 6;
+            for (int i = 0; i < full; i++) {
+                append(row[i], 64);
+            }
+            int tail = cols & 63;
+            if (tail > 0) {
+                append(row[full] & ((1L << tail) - 1), tail);
+            }
+            written++;
+        }
+
+        private void append(long bits, int count) throws IOException {
+            pending |= bits << pendingBits;
+            int total = pendingBits + count;
+            if (total < 64) {
+                pendingBits = total;
+                return;
+            }
+            writer.ensure(Long.BYTES);
+            writer.buffer.putLong(pending);
+            pending = pendingBits == 0 ? 0 : bits >>> (64 - pendingBits);
+            pendingBits = total - 64;
+        }
+
+        @Override
+        public void close() throws IOException {
+            try (FileChannel ignored = writer.channel) {
+                if (written != rows) {
+                    throw new IllegalStateException("Expected " + rows + " maze rows, got " + written);
+                }
+                if (pendingBits > 0) {
+                    writer.ensure(Long.BYTES);
+                    writer.buffer.putLong(pending);
+                }
+                writer.flush();
+                writer.buffer.putInt((int) writer.crc.getValue());
+                writer.write();
+            }
+        }
+    }
+
+    private static final class Reader {
+        private final FileChannel channel;
+        private final java.nio.file.Path file;
+        private final ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+        private final CRC32C crc = new CRC32C();
+        private int checked;
+
+        Reader(FileChannel channel, java.nio.file.Path file) {
+            this.channel = channel;
+            this.file = file;
+            buffer.limit(0);
+        }
+
+        void require(int bytes) throws IOException {
+            if (buffer.remaining() >= bytes) return;
+            crc.update(buffer.array(), checked, buffer.position() - checked);
+            buffer.compact();
+            while (buffer.position() < bytes) {
+                if (channel.read(buffer) < 0) {
+                    throw new IllegalArgumentException("Binary maze file is truncated: " + file.toAbsolutePath());
+                }
+            }
+            buffer.flip();
+            checked = 0;
+        }
+
+        /** Проверяет, что файл не короче {@code bytes}, не читая его. */
+        void requireSize(long bytes) throws IOException {
+            if (channel.size() < bytes) {
+                throw new IllegalArgumentException("Binary maze file is truncated: " + file.toAbsolutePath());
+            }
+        }
+
+        long checksum() {
+            crc.update(buffer.array(), checked, buffer.position() - checked);
+            checked = buffer.position();
+            return crc.getValue();
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package academy.maze.IO;
+
+import academy.maze.dto.Maze;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+
+/**
+ * Кэш загруженных лабиринтов для долгоживущих режимов, где один и тот же файл решается много раз. Ключ — путь к
+ * файлу, формат, время изменения и размер, поэтому перезаписанный файл читается заново, а старая запись просто
+ * вытесняется. Вес записи — память сетки и покрытий в килобайтах, вытеснение по весу делает Caffeine (W-TinyLFU).
+ *
+ * <p>Предрасчёты решателей ({@code CorridorGraph}, {@code TreePathOracle}) здесь не хранятся и не взвешиваются: они
+ * лежат в отдельном кэше со слабыми ключами-сетками и мягкими значениями. Пока лабиринт лежит здесь, повторные
+ * решения получают и их, а после вытеснения они освобождаются сборщиком, как только на лабиринт больше никто не
+ * ссылается. Поэтому {@code maxBytes} ограничивает только сами лабиринты: предрасчёты могут занимать намного больше
+ * (у {@code TreePathOracle} три {@code int} на ячейку против одного бита сетки) и ограничены лишь мягкими ссылками.
+ */
+public final class MazeCache {
+    private final Cache<Key, Maze> cache;
+
+    /** @param maxBytes сколько памяти могут занимать сетки и покрытия закэшированных лабиринтов, без предрасчётов. */
+    public MazeCache(long maxBytes) {
+        if (maxBytes <= 0) {
+            throw new IllegalArgumentException("Cache size must be positive: " + maxBytes);
+        }
+        cache = Caffeine.newBuilder()
+                .maximumWeight(Math.max(1, maxBytes >> 10))
+                .weigher((Key key, Maze maze) -> weight(maze))
+                .recordStats()
+                .build();
+    }
+
+    /** Лабиринт из кэша, если файл не менялся с прошлой загрузки, иначе читает его через {@link MazeIO}. */
+    public Maze load(File file, MazeFormat format) {
+        Path path = file.toPath().toAbsolutePath().normalize();
+        BasicFileAttributes attributes;
+        try {
+            attributes = Files.readAttributes(path, BasicFileAttributes.class);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        Key key = new Key(path, format, attributes.lastModifiedTime().toMillis(), attributes.size());
+        return cache.get(key, k -> MazeIO.loadFromFile(k.path().toFile(), k.format()));
+    }
+
+    /** Попадания, промахи и вытеснения с момента создания кэша. */
+    public CacheStats stats() {
+        return cache.stats();
+    }
+
+    public long size() {
+        return cache.estimatedSize();
+    }
+
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    /** Выполняет отложенное обслуживание кэша, в том числе вытеснение; нужно, чтобы статистика была точной. */
+    public void cleanUp() {
+        cache.cleanUp();
+    }
+
+    /** Вес лабиринта в килобайтах: слова сетки и байты покрытий, но не меньше единицы. */
+    public static int weight(Maze maze) {
+        long bytes = (long) maze.grid().words() * Long.BYTES;
+        if (maze.isWeighted()) {
+            bytes += maze.grid().size();
+        }
+        return (int) Math.min(Integer.MAX_VALUE, Math.max(1, (bytes + 1023) >> 10));
+    }
+
+    private record Key(Path path, MazeFormat format, long modified, long size) {}
+}
@@ -0,0 +1,18 @@
+package academy.maze.IO;
+
+/** Формат файла лабиринта. TEXT — символьная картинка, BIN — бинарный формат {@link MazeBinaryIO}. */
+public enum MazeFormat {
+    TEXT,
+    BIN;
+
+    public static MazeFormat parse(String name) {
+        if (name == null) {
+            return TEXT;
+        }
+        return switch (name.toLowerCase()) {
+            case "text", "txt" -> TEXT;
+            case "bin" -> BIN;
+            default -> throw new IllegalArgumentException("Unknown maze format: " + name + ", expected text or bin");
+        };
+    }
+}
@@ -0,0 +1,15 @@
+package academy.maze.IO;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+/** Построчная запись лабиринта, который не держится в памяти целиком. */
+public interface MazeRowWriter extends Closeable {
+
+    /**
+     * Записывает очередную строку сетки.
+     *
+     * @param row ячейки строки по 64 на слово, младший бит — первая ячейка, 1 — проход.
+     */
+    void writeRow(long[] row) throws IOException;
+}
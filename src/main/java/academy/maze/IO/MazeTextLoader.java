@@ -0,0 +1,199 @@
+package academy.maze.IO;
+
+import academy.maze.dto.BitGrid;
+import academy.maze.dto.CostGrid;
+import academy.maze.dto.Maze;
+import academy.maze.dto.Terrain;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.MalformedInputException;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.BitSet;
+
+/**
+ * Потоковый загрузчик текстового формата лабиринта ({@code #} — стена, символы {@link Terrain} — проход с покрытием,
+ * любой другой символ — обычный проход). Файл читается через буфер фиксированного размера за один проход, ячейки сразу
+ * пишутся в {@link BitGrid}. Число строк оценивается по размеру файла и длине первой строки, поэтому сетка выделяется
+ * один раз. Переводы строк {@code \n}, {@code \r\n} и {@code \r} обрабатываются так же, как в
+ * {@link java.nio.file.Files#readAllLines(Path)}.
+ *
+ * <p>Байты разбираются как UTF-8 с теми же правилами, что у {@code readAllLines}: символ занимает одну ячейку, символ
+ * вне BMP — две, как пара суррогатов в строке, а некорректная последовательность отклоняется
+ * {@link MalformedInputException}.
+ *
+ * <p>Таблица стоимостей {@link CostGrid} создаётся только после первого символа покрытия, поэтому обычный лабиринт
+ * загружается без неё.
+ */
+final class MazeTextLoader {
+    private static final int BUFFER_SIZE = 1 << 20;
+
+    private final Path file;
+    private final long fileSize;
+    private final BitSet firstRow = new BitSet();
+    private byte[] firstRowTerrain = new byte[0];
+    private BitGrid grid;
+    private CostGrid costs;
+    private boolean hasTerrain;
+    private int cols = -1;
+    private int row;
+    private int col;
+    private boolean afterCarriageReturn;
+    private boolean carriageReturnSeparator;
+    private int continuation;
+    private int continuationLow;
+    private int continuationHigh;
+
+    private MazeTextLoader(Path file, long fileSize) {
+        this.file = file;
+        this.fileSize = fileSize;
+    }
+
+    static Maze load(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            MazeTextLoader loader = new MazeTextLoader(file, channel.size());
+            ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+            byte[] bytes = buffer.array();
+            while (channel.read(buffer) > 0) {
+                loader.accept(bytes, buffer.position());
+                buffer.clear();
+            }
+            return loader.finish();
+        }
+    }
+
+    private void accept(byte[] bytes, int length) throws MalformedInputException {
+        for (int i = 0; i < length; i++) {
+            byte b = bytes[i];
+            if (continuation > 0) {
+                int unsigned = b & 0xFF;
+                if (unsigned < continuationLow || unsigned > continuationHigh) throw new MalformedInputException(1);
+                continuation--;
+                continuationLow = 0x80;
+                continuationHigh = 0xBF;
+                continue;
+            }
+            if (b == '\n') {
+                if (afterCarriageReturn) {
+                    afterCarriageReturn = false;
+                    carriageReturnSeparator = true;
+                    continue;
+                }
+                endLine();
+                continue;
+            }
+            if (afterCarriageReturn) {
+                afterCarriageReturn = false;
+                allocateGrid();
+            }
+            if (b == '\r') {
+                endLine();
+                afterCarriageReturn = true;
+            } else if (b >= 0) {
+                if (b != '#') markPath(Terrain.ofSymbol(b));
+                col++;
+            } else {
+                startSequence(b & 0xFF);
+            }
+        }
+    }
+
+    /** Начинает многобайтовый символ UTF-8; границы второго байта исключают длинные формы и суррогаты. */
+    private void startSequence(int lead) throws MalformedInputException {
+        int cells = 1;
+        if (lead >= 0xC2 && lead <= 0xDF) {
+            expect(1, 0x80, 0xBF);
+        } else if (lead >= 0xE0 && lead <= 0xEF) {
+            expect(2, lead == 0xE0 ? 0xA0 : 0x80, lead == 0xED ? 0x9F : 0xBF);
+        } else if (lead >= 0xF0 && lead <= 0xF4) {
+            expect(3, lead == 0xF0 ? 0x90 : 0x80, lead == 0xF4 ? 0x8F : 0xBF);
+            cells = 2;
+        } else {
+            throw new MalformedInputException(1);
+        }
+        for (int i = 0; i < cells; i++) {
+            markPath(null);
+            col++;
+        }
+    }
+
+    private void expect(int bytes, int low, int high) {
+        continuation = bytes;
+        continuationLow = low;
+        continuationHigh = high;
+    }
+
+    private void markPath(Terrain terrain) {
+        boolean plain = terrain == null || terrain == Terrain.PATH;
+        if (cols < 0) {
+            firstRow.set(col);
+            if (!plain) {
+                if (col >= firstRowTerrain.length) {
+                    firstRowTerrain = Arrays.copyOf(firstRowTerrain, Math.max(2 * firstRowTerrain.length, col + 1));
+                }
+                firstRowTerrain[col] = (byte) (terrain.ordinal() + 1);
+                hasTerrain = true;
+            }
+        } else if (col < cols) {
+            allocateGrid();
+            if (row >= grid.rows()) {
+                grid = grid.withRows((int) Math.min(2L * grid.rows() + 1, Integer.MAX_VALUE));
+                if (costs != null) costs = costs.withRows(grid.rows());
+            }
+            grid.setPath(row, col);
+            if (!plain) {
+                if (costs == null) costs = new CostGrid(grid.rows(), cols);
+                costs.set(row, col, terrain);
+            }
+        }
+    }
+
+    private void endLine() {
+        if (cols < 0) {
+            if (col == 0) {
+                throw new IllegalArgumentException("Maze file contains an empty row: " + file.toAbsolutePath());
+            }
+            cols = col;
+        } else if (col != cols) {
+            throw new IllegalArgumentException("Maze file must be rectangular. Line " + (row + 1) + " has length "
+                    + col + ", expected " + cols);
+        }
+        row++;
+        col = 0;
+    }
+
+    private void allocateGrid() {
+        if (grid != null) return;
+        int separator = carriageReturnSeparator ? 2 : 1;
+        long estimate = (fileSize + separator) / (cols + separator);
+        grid = new BitGrid((int) Math.min(Math.max(estimate, 1), Integer.MAX_VALUE), cols);
+        for (int c = firstRow.nextSetBit(0); c >= 0; c = firstRow.nextSetBit(c + 1)) {
+            grid.setPath(0, c);
+        }
+        if (hasTerrain) {
+            costs = new CostGrid(grid.rows(), cols);
+            Terrain[] terrains = Terrain.values();
+            for (int c = 0; c < Math.min(firstRowTerrain.length, cols); c++) {
+                if (firstRowTerrain[c] != 0) costs.set(0, c, terrains[firstRowTerrain[c] - 1]);
+            }
+        }
+    }
+
+    private Maze finish() throws MalformedInputException {
+        if (continuation > 0) {
+            throw new MalformedInputException(1);
+        }
+        if (col > 0) {
+            endLine();
+        }
+        if (row == 0) {
+            throw new IllegalArgumentException("Maze file is empty: " + file.toAbsolutePath());
+        }
+        allocateGrid();
+        BitGrid result = grid.rows() == row ? grid : grid.withRows(row);
+        if (costs == null) return new Maze(result);
+        return new Maze(result, costs.rows() == row ? costs : costs.withRows(row));
+    }
+}
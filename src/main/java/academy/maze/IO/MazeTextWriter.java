@@ -0,0 +1,111 @@
+package academy.maze.IO;
+
+import academy.maze.dto.BitGrid;
+import academy.maze.dto.CostGrid;
+import academy.maze.dto.Maze;
+import academy.maze.dto.Path;
+import academy.maze.dto.Terrain;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
+
+/**
+ * Построчная запись лабиринта в текстовом формате. Свободные ячейки с покрытием пишутся символом {@link Terrain}. Путь
+ * переводится в отсортированный массив индексов ячеек, а каждая строка собирается в одном переиспользуемом буфере,
+ * поэтому дополнительная память — одна строка и путь, независимо от размера лабиринта.
+ */
+public final class MazeTextWriter {
+    private static final int BUFFER_SIZE = 1 << 16;
+    private static final byte[] LINE_SEPARATOR = System.lineSeparator().getBytes(StandardCharsets.US_ASCII);
+
+    private MazeTextWriter() {}
+
+    /**
+     * Записывает лабиринт в файл.
+     *
+     * @param path путь для отрисовки точками, может быть {@code null}.
+     * @param markEnds отмечать ли начало пути символом {@code O}, а конец — {@code X}.
+     */
+    public static void write(Maze maze, java.nio.file.Path file, Path path, boolean markEnds) throws IOException {
+        try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(file), BUFFER_SIZE)) {
+            write(maze, out, path, markEnds);
+        }
+    }
+
+    public static void write(Maze maze, OutputStream out, Path path, boolean markEnds) throws IOException {
+        BitGrid grid = maze.grid();
+        CostGrid costs = maze.costs();
+        int rows = grid.rows(), cols = grid.cols();
+        int length = path != null ? path.length() : 0;
+
+        long[] marked = new long[length];
+        int count = 0;
+        for (int i = 0; i < length; i++) {
+            int row = path.row(i), col = path.col(i);
+            if (row >= 0 && row < rows && col >= 0 && col < cols) {
+                marked[count++] = (long) row * cols + col;
+            }
+        }
+        long start = -1, end = -1;
+        if (markEnds && count > 0) {
+            start = marked[0];
+            end = count > 1 ? marked[count - 1] : -1;
+        }
+        marked = Arrays.copyOf(marked, count);
+        Arrays.sort(marked);
+
+        byte[] line = new byte[cols];
+        int next = 0;
+        for (int i = 0; i < rows; i++) {
+            long rowStart = (long) i * cols;
+            for (int j = 0; j < cols; j++) {
+                line[j] = (byte) (grid.isWall(i, j) ? '#' : costs == null ? ' ' : costs.terrain(i, j).symbol());
+            }
+            while (next < count && marked[next] < rowStart + cols) {
+                long index = marked[next++];
+                int j = (int) (index - rowStart);
+                if (index == start) {
+                    line[j] = 'O';
+                } else if (index == end) {
+                    line[j] = 'X';
+                } else if (line[j] != '#') {
+                    line[j] = '.';
+                }
+            }
+            out.write(line);
+            out.write(LINE_SEPARATOR);
+        }
+    }
+
+    /** Открывает файл для построчной записи лабиринта шириной {@code cols} ячеек. */
+    public static MazeRowWriter rowWriter(java.nio.file.Path file, int cols) throws IOException {
+        return new RowWriter(new BufferedOutputStream(Files.newOutputStream(file), BUFFER_SIZE), cols);
+    }
+
+    private static final class RowWriter implements MazeRowWriter {
+        private final OutputStream out;
+        private final byte[] line;
+
+        RowWriter(OutputStream out, int cols) {
+            this.out = out;
+            this.line = new byte[cols];
+        }
+
+        @Override
+        public void writeRow(long[] row) throws IOException {
+            for (int j = 0; j < line.length; j++) {
+                line[j] = (byte) ((row[j >>> 6] & (1L << j)) != 0 ? ' ' : '#');
+            }
+            out.write(line);
+            out.write(LINE_SEPARATOR);
+        }
+
+        @Override
+        public void close() throws IOException {
+            out.close();
+        }
+    }
+}
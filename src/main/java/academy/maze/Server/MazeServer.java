@@ -0,0 +1,442 @@
+package academy.maze.Server;
+
+import academy.maze.Generate.ChooseGenerator;
+import academy.maze.Generate.Generator;
+import academy.maze.IO.MazeBinaryIO;
+import academy.maze.IO.MazeCache;
+import academy.maze.IO.MazeFormat;
+import academy.maze.IO.MazeTextWriter;
+import academy.maze.Solve.PathCache;
+import academy.maze.Solve.SolveScheduler;
+import academy.maze.Solve.Solver;
+import academy.maze.dto.Maze;
+import academy.maze.dto.Path;
+import academy.maze.dto.Point;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Долгоживущий режим: HTTP-сервер на {@code com.sun.net.httpserver}, который держит лабиринты в памяти между запросами,
+ * чтобы не платить за старт JVM на каждый вызов. Каждый запрос обрабатывается в своём виртуальном потоке, решения
+ * проходят через {@link SolveScheduler} с ограничением числа одновременных запросов, а найденные пути общие через
+ * {@link PathCache}. Лабиринты замораживаются при регистрации, поэтому все запросы читают один экземпляр.
+ *
+ * <p>Зарегистрированные лабиринты занимают не больше {@code maxMazeBytes}: при переполнении давно не нужные
+ * вытесняются, и их идентификаторы начинают отвечать 404. Повторная загрузка того же неизменённого файла, пока он
+ * лежит в {@link MazeCache}, возвращает прежний идентификатор. Размер генерируемого лабиринта и тело пакетного
+ * запроса ограничены, чтобы один запрос не мог занять всю память.
+ *
+ * <p>Файлы загружаются только из корневого каталога {@code root}: путь разрешается относительно него, и всё, что после
+ * нормализации и раскрытия символических ссылок оказывается снаружи, отклоняется с кодом 403. Иначе сервер, слушающий
+ * не только loopback, отдавал бы любой читаемый им файл в виде карты стен.
+ *
+ * <pre>
+ * POST /mazes?algorithm=prim&amp;width=10&amp;height=10[&amp;seed=1]  сгенерировать лабиринт
+ * POST /mazes/load?file=maze.txt[&amp;format=bin]                   загрузить лабиринт из файла
+ * GET  /mazes/{id}[?format=bin]                                   лабиринт в текстовом или бинарном формате
+ * DELETE /mazes/{id}                                              удалить лабиринт
+ * GET  /solve?maze={id}&amp;algorithm=astar&amp;start=1,1&amp;end=3,3      найти путь
+ * POST /solve-batch?maze={id}&amp;algorithm=astar                    по запросу "x,y x,y" на строку тела
+ * GET  /stats                                                     нагрузка, задержки и статистика кэшей
+ * </pre>
+ *
+ * <p>Ответы — JSON: описание лабиринта {@code {"id", "rows", "cols", "weighted"}} или путь
+ * {@code {"start", "end", "length", "path"}}, где {@code length} — число шагов, {@code -1}, если пути нет. Ошибки —
+ * {@code {"error"}} с кодом 400, 403, 404 или 405, а если планировщик отклонил запрос — 503.
+ */
+public final class MazeServer implements AutoCloseable {
+    private static final Logger LOGGER = LoggerFactory.getLogger(MazeServer.class);
+    private static final ObjectMapper JSON = new ObjectMapper();
+    private static final String JSON_TYPE = "application/json; charset=utf-8";
+    // сетка 10001 x 10001 занимает 12 МБ, рабочие массивы генераторов — порядка сотни мегабайт
+    private static final int MAX_SIDE = 5000;
+    private static final int MAX_BODY_BYTES = 1 << 20;
+
+    private final HttpServer server;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final Cache<String, Maze> mazes;
+    // загруженный файл, пока он лежит в MazeCache, — один и тот же экземпляр лабиринта
+    private final Cache<Maze, String> loadedIds = Caffeine.newBuilder().weakKeys().build();
+    private final AtomicLong nextId = new AtomicLong(1);
+    private final long maxMazeKilobytes;
+    private final java.nio.file.Path root;
+    private final MazeCache mazeCache;
+    private final PathCache pathCache;
+    private final SolveScheduler scheduler;
+
+    /**
+     * Создаёт сервер на адресе {@code address}, порт 0 — любой свободный. Запросы принимаются после {@link #start()}.
+     *
+     * @param root каталог, из которого разрешено загружать файлы.
+     * @param maxMazeBytes сколько памяти могут занимать зарегистрированные лабиринты.
+     * @throws IllegalArgumentException если {@code root} не каталог.
+     * @throws IOException если сервер не удалось создать.
+     */
+    public MazeServer(
+            InetSocketAddress address,
+            java.nio.file.Path root,
+            long maxMazeBytes,
+            MazeCache mazeCache,
+            PathCache pathCache,
+            SolveScheduler scheduler)
+            throws IOException {
+        if (maxMazeBytes <= 0) {
+            throw new IllegalArgumentException("Maze memory limit must be positive: " + maxMazeBytes);
+        }
+        if (!Files.isDirectory(root)) {
+            throw new IllegalArgumentException("Root is not a directory: " + root.toAbsolutePath());
+        }
+        this.root = root.toRealPath();
+        this.maxMazeKilobytes = Math.max(1, maxMazeBytes >> 10);
+        this.mazes = Caffeine.newBuilder()
+                .maximumWeight(maxMazeKilobytes)
+                .weigher((String id, Maze maze) -> MazeCache.weight(maze))
+                .build();
+        this.mazeCache = mazeCache;
+        this.pathCache = pathCache;
+        this.scheduler = scheduler;
+        server = HttpServer.create(address, 0);
+        server.setExecutor(executor);
+        server.createContext("/mazes", exchange -> handle(exchange, this::mazes));
+        server.createContext("/solve", exchange -> handle(exchange, this::solve));
+        server.createContext("/solve-batch", exchange -> handle(exchange, this::solveBatch));
+        server.createContext("/stats", exchange -> handle(exchange, this::stats));
+    }
+
+    public void start() {
+        server.start();
+    }
+
+    /** Порт, на котором сервер принимает запросы. */
+    public int port() {
+        return server.getAddress().getPort();
+    }
+
+    /** Останавливает приём запросов и ждёт завершения начатых. Планировщик закрывает тот, кто его создал. */
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.close();
+    }
+
+    private void mazes(HttpExchange exchange, Map<String, String> query) throws IOException {
+        String path = exchange.getRequestURI().getPath();
+        if (path.equals("/mazes")) {
+            requireMethod(exchange, "POST");
+            Generator generator = ChooseGenerator.choose(require(query, "algorithm"));
+            if (generator == null) {
+                throw new IllegalArgumentException("Unknown algorithm: " + query.get("algorithm"));
+            }
+            int width = parseInt(query, "width"), height = parseInt(query, "height");
+            if (width <= 0 || height <= 0) {
+                throw new IllegalArgumentException("Width and height must be positive integers.");
+            }
+            if (width > MAX_SIDE || height > MAX_SIDE) {
+                throw new IllegalArgumentException("Width and height must not exceed " + MAX_SIDE);
+            }
+            // генератор строит сетку (2 * width + 1) x (2 * height + 1), её размер известен заранее
+            if ((2L * width + 1) * (2L * height + 1) / Byte.SIZE >> 10 > maxMazeKilobytes) {
+                throw new IllegalArgumentException("Maze " + width + "x" + height + " does not fit in server memory");
+            }
+            long seed = query.containsKey("seed") ? parseLong(query, "seed") : ThreadLocalRandom.current().nextLong();
+            sendJson(exchange, 201, register(generator.generate(width, height, seed)));
+        } else if (path.equals("/mazes/load")) {
+            requireMethod(exchange, "POST");
+            File file = underRoot(require(query, "file"));
+            Maze maze = mazeCache.load(file, MazeFormat.parse(query.get("format")));
+            requireFits(maze);
+            String id = loadedIds.get(maze, key -> Long.toString(nextId.getAndIncrement()));
+            boolean registered = mazes.getIfPresent(id) != null;
+            if (!registered) mazes.put(id, maze.freeze());
+            sendJson(exchange, registered ? 200 : 201, info(id, maze));
+        } else if (path.startsWith("/mazes/")) {
+            String id = path.substring("/mazes/".length());
+            if (exchange.getRequestMethod().equals("DELETE")) {
+                maze(id);
+                mazes.invalidate(id);
+                exchange.sendResponseHeaders(204, -1);
+                return;
+            }
+            if (!exchange.getRequestMethod().equals("GET")) {
+                throw new MethodNotAllowed("GET, DELETE");
+            }
+            Maze maze = maze(id);
+            if (MazeFormat.parse(query.get("format")) == MazeFormat.BIN) {
+                send(exchange, 200, "application/octet-stream", binary(maze));
+            } else {
+                ByteArrayOutputStream out = new ByteArrayOutputStream();
+                MazeTextWriter.write(maze, out, null, false);
+                send(exchange, 200, "text/plain; charset=utf-8", out.toByteArray());
+            }
+        } else {
+            throw new NoSuchElementException("Unknown path: " + path);
+        }
+    }
+
+    private void solve(HttpExchange exchange, Map<String, String> query) throws IOException {
+        requirePath(exchange, "/solve");
+        requireMethod(exchange, "GET");
+        Maze maze = maze(require(query, "maze"));
+        String algorithm = require(query, "algorithm");
+        String start = require(query, "start"), end = require(query, "end");
+        sendJson(exchange, 200, scheduler.solve(algorithm, solver -> solution(solver, algorithm, maze, start, end)));
+    }
+
+    private void solveBatch(HttpExchange exchange, Map<String, String> query) throws IOException {
+        requirePath(exchange, "/solve-batch");
+        requireMethod(exchange, "POST");
+        Maze maze = maze(require(query, "maze"));
+        String algorithm = require(query, "algorithm");
+        byte[] bytes = exchange.getRequestBody().readNBytes(MAX_BODY_BYTES + 1);
+        if (bytes.length > MAX_BODY_BYTES) {
+            throw new IllegalArgumentException("Request body must not exceed " + MAX_BODY_BYTES + " bytes");
+        }
+        String body = new String(bytes, StandardCharsets.UTF_8);
+        sendJson(exchange, 200, scheduler.solve(algorithm, solver -> answers(solver, algorithm, maze, body)));
+    }
+
+    private void stats(HttpExchange exchange, Map<String, String> query) throws IOException {
+        requirePath(exchange, "/stats");
+        requireMethod(exchange, "GET");
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("scheduler", scheduler.stats());
+        stats.put("mazeCache", cacheStats(mazeCache.stats(), mazeCache.size()));
+        stats.put("pathCache", cacheStats(pathCache.stats(), pathCache.size()));
+        sendJson(exchange, 200, stats);
+    }
+
+    private List<Object> answers(Solver solver, String algorithm, Maze maze, String body) {
+        List<Object> answers = new ArrayList<>();
+        for (String line : body.split("\\R")) {
+            if (line.isBlank()) continue;
+            String[] parts = line.trim().split("\\s+");
+            try {
+                if (parts.length != 2) {
+                    throw new IllegalArgumentException("Invalid query: " + line.trim() + ", expected format: x,y x,y");
+                }
+                answers.add(solution(solver, algorithm, maze, parts[0], parts[1]));
+            } catch (IllegalArgumentException e) {
+                answers.add(new Failure(e.getMessage()));
+            }
+        }
+        return answers;
+    }
+
+    private Solution solution(Solver solver, String algorithm, Maze maze, String start, String end) {
+        Point startPoint = Point.parse(start), endPoint = Point.parse(end);
+        if (!inBounds(startPoint, maze) || !inBounds(endPoint, maze)) {
+            throw new IllegalArgumentException("Start or end point is out of maze bounds");
+        }
+        if (maze.isWall(startPoint.x(), startPoint.y()) || maze.isWall(endPoint.x(), endPoint.y())) {
+            throw new IllegalArgumentException("Start or end point is inside a wall");
+        }
+        Path path = pathCache.solve(solver, algorithm, maze, startPoint, endPoint);
+        int[][] points = new int[path.length()][];
+        for (int i = 0; i < points.length; i++) {
+            points[i] = new int[] {path.row(i), path.col(i)};
+        }
+        return new Solution(start.trim(), end.trim(), path.length() - 1, points);
+    }
+
+    private MazeInfo register(Maze maze) {
+        requireFits(maze);
+        String id = Long.toString(nextId.getAndIncrement());
+        mazes.put(id, maze.freeze());
+        return info(id, maze);
+    }
+
+    /**
+     * Файл внутри корневого каталога. Сначала проверяется нормализованный путь, затем настоящий, чтобы символическая
+     * ссылка внутри корня не вела наружу.
+     */
+    private File underRoot(String name) {
+        java.nio.file.Path path = root.resolve(name).normalize();
+        try {
+            if (!path.startsWith(root) || Files.exists(path) && !path.toRealPath().startsWith(root)) {
+                throw new Forbidden("File is outside the server root: " + name);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return path.toFile();
+    }
+
+    /** Лабиринт больше всего лимита был бы вытеснен сразу после регистрации. */
+    private void requireFits(Maze maze) {
+        if (MazeCache.weight(maze) > maxMazeKilobytes) {
+            throw new IllegalArgumentException("Maze " + maze.x() + "x" + maze.y() + " does not fit in server memory");
+        }
+    }
+
+    private Maze maze(String id) {
+        Maze maze = mazes.getIfPresent(id);
+        if (maze == null) {
+            throw new NoSuchElementException("Unknown maze: " + id);
+        }
+        return maze;
+    }
+
+    private static MazeInfo info(String id, Maze maze) {
+        return new MazeInfo(id, maze.x(), maze.y(), maze.isWeighted());
+    }
+
+    private static Map<String, Long> cacheStats(CacheStats stats, long size) {
+        Map<String, Long> result = new LinkedHashMap<>();
+        result.put("size", size);
+        result.put("hits", stats.hitCount());
+        result.put("misses", stats.missCount());
+        result.put("evictions", stats.evictionCount());
+        return result;
+    }
+
+    private static boolean inBounds(Point p, Maze maze) {
+        return p.x() >= 0 && p.x() < maze.x() && p.y() >= 0 && p.y() < maze.y();
+    }
+
+    /** {@link MazeBinaryIO} пишет только в файл, поэтому ответ собирается через временный файл. */
+    private static byte[] binary(Maze maze) throws IOException {
+        java.nio.file.Path tmp = Files.createTempFile("maze-server", ".bin");
+        try {
+            MazeBinaryIO.save(maze, tmp, null);
+            return Files.readAllBytes(tmp);
+        } finally {
+            Files.deleteIfExists(tmp);
+        }
+    }
+
+    /** Разбирает запрос и переводит исключения обработчика в коды ответа. */
+    private static void handle(HttpExchange exchange, Handler handler) {
+        try (exchange) {
+            try {
+                handler.handle(exchange, query(exchange.getRequestURI().getRawQuery()));
+            } catch (MethodNotAllowed e) {
+                exchange.getResponseHeaders().set("Allow", e.getMessage());
+                sendJson(exchange, 405, new Failure("Method not allowed, expected " + e.getMessage()));
+            } catch (Forbidden e) {
+                sendJson(exchange, 403, new Failure(e.getMessage()));
+            } catch (NoSuchElementException e) {
+                sendJson(exchange, 404, new Failure(e.getMessage()));
+            } catch (RejectedExecutionException e) {
+                exchange.getResponseHeaders().set("Retry-After", "1");
+                sendJson(exchange, 503, new Failure(e.getMessage()));
+            } catch (IllegalArgumentException | UncheckedIOException e) {
+                sendJson(exchange, 400, new Failure(e.getMessage()));
+            } catch (RuntimeException e) {
+                LOGGER.atError().setCause(e).addKeyValue("uri", exchange.getRequestURI()).log("Request failed");
+                sendJson(exchange, 500, new Failure("Internal error"));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static Map<String, String> query(String raw) {
+        Map<String, String> query = new HashMap<>();
+        if (raw == null || raw.isEmpty()) return query;
+        for (String pair : raw.split("&")) {
+            int eq = pair.indexOf('=');
+            String key = eq < 0 ? pair : pair.substring(0, eq);
+            String value = eq < 0 ? "" : pair.substring(eq + 1);
+            query.put(
+                    URLDecoder.decode(key, StandardCharsets.UTF_8), URLDecoder.decode(value, StandardCharsets.UTF_8));
+        }
+        return query;
+    }
+
+    private static String require(Map<String, String> query, String name) {
+        String value = query.get(name);
+        if (value == null || value.isEmpty()) {
+            throw new IllegalArgumentException("Missing parameter: " + name);
+        }
+        return value;
+    }
+
+    private static int parseInt(Map<String, String> query, String name) {
+        try {
+            return Integer.parseInt(require(query, name));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Parameter " + name + " must be an integer: " + query.get(name), e);
+        }
+    }
+
+    private static long parseLong(Map<String, String> query, String name) {
+        try {
+            return Long.parseLong(require(query, name));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Parameter " + name + " must be an integer: " + query.get(name), e);
+        }
+    }
+
+    private static void requirePath(HttpExchange exchange, String path) {
+        if (!exchange.getRequestURI().getPath().equals(path)) {
+            throw new NoSuchElementException("Unknown path: " + exchange.getRequestURI().getPath());
+        }
+    }
+
+    private static void requireMethod(HttpExchange exchange, String method) {
+        if (!exchange.getRequestMethod().equals(method)) {
+            throw new MethodNotAllowed(method);
+        }
+    }
+
+    private static void sendJson(HttpExchange exchange, int status, Object body) throws IOException {
+        send(exchange, status, JSON_TYPE, JSON.writeValueAsBytes(body));
+    }
+
+    private static void send(HttpExchange exchange, int status, String type, byte[] body) throws IOException {
+        exchange.getResponseHeaders().set("Content-Type", type);
+        exchange.sendResponseHeaders(status, body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+
+    @FunctionalInterface
+    private interface Handler {
+        void handle(HttpExchange exchange, Map<String, String> query) throws IOException;
+    }
+
+    private static final class MethodNotAllowed extends RuntimeException {
+        MethodNotAllowed(String expected) {
+            super(expected);
+        }
+    }
+
+    private static final class Forbidden extends RuntimeException {
+        Forbidden(String message) {
+            super(message);
+        }
+    }
+
+    public record MazeInfo(String id, int rows, int cols, boolean weighted) {}
+
+    public record Solution(String start, String end, int length, int[][] path) {}
+
+    public record Failure(String error) {}
+}
@@ -0,0 +1,78 @@
+package academy.maze.Solve;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Параллельное решение потока запросов к лабиринту. Запросы выполняются в пуле из {@code threads} потоков, у каждого
+ * потока свой экземпляр решателя, поэтому массивы поиска переиспользуются между запросами этого потока и не делятся
+ * между потоками. Результаты отдаются в порядке запросов, а в работе одновременно не больше
+ * {@code threads * WINDOW_PER_THREAD} запросов, так что входной поток может быть сколь угодно длинным.
+ */
+public final class BatchSolver implements AutoCloseable {
+    private static final int WINDOW_PER_THREAD = 32;
+
+    private final ExecutorService executor;
+    private final ThreadLocal<Solver> solvers;
+    private final int window;
+
+    /**
+     * @param solverFactory создаёт решатель для каждого рабочего потока.
+     * @param threads количество рабочих потоков.
+     */
+    public BatchSolver(Supplier<Solver> solverFactory, int threads) {
+        if (threads <= 0) {
+            throw new IllegalArgumentException("Thread count must be positive: " + threads);
+        }
+        this.executor = Executors.newFixedThreadPool(threads);
+        this.solvers = ThreadLocal.withInitial(solverFactory);
+        this.window = Math.multiplyExact(threads, WINDOW_PER_THREAD);
+    }
+
+    /**
+     * Выполняет {@code task} для каждого запроса и передаёт результаты в {@code results} в том же порядке, в каком
+     * запросы пришли. {@code results} вызывается только из вызывающего потока.
+     *
+     * @param task решение одного запроса решателем текущего рабочего потока.
+     * @throws RuntimeException если {@code task} бросил исключение, остальные запросы при этом не ждут.
+     */
+    public <T, R> void solveAll(Iterator<T> queries, BiFunction<Solver, T, R> task, Consumer<R> results) {
+        Deque<Future<R>> pending = new ArrayDeque<>();
+        while (queries.hasNext()) {
+            T query = queries.next();
+            pending.add(executor.submit(() -> task.apply(solvers.get(), query)));
+            if (pending.size() >= window) {
+                results.accept(await(pending.poll()));
+            }
+        }
+        while (!pending.isEmpty()) {
+            results.accept(await(pending.poll()));
+        }
+    }
+
+    private static <R> R await(Future<R> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for a query", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) throw cause;
+            if (e.getCause() instanceof Error error) throw error;
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    @Override
+    public void close() {
+        executor.shutdownNow();
+    }
+}
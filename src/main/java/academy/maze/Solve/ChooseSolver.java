@@ -8,6 +8,13 @@ public class ChooseSolver {
         return switch (word.toLowerCase()) {
             case "dijkstra" -> new SolverDijkstra();
             case "astar" -> new SolverAStar();
+            case "dial" -> new SolverDial();
+            case "bidijkstra" -> new SolverBidirectional(false);
+            case "biastar" -> new SolverBidirectional(true);
+            case "corridor-dijkstra" -> new SolverCorridor(false);
+            case "corridor-astar" -> new SolverCorridor(true);
+            case "tree" -> new SolverTree();
+            case "jps" -> new SolverJumpPoint();
             default -> null;
         };
     }
@@ -0,0 +1,388 @@
+package academy.maze.Solve;
+
+import academy.maze.HelpAlgorithm.IndexedMinHeap;
+import academy.maze.dto.BitGrid;
+import academy.maze.dto.Maze;
+import academy.maze.dto.Path;
+import academy.maze.dto.Point;
+import java.util.Arrays;
+
+/**
+ * Сжатый граф лабиринта. Вершины — развилки и тупики (свободные ячейки, у которых не ровно два свободных соседа), рёбра
+ * — коридоры между ними. Коридор хранится один раз: концы, внутренние ячейки по порядку от первого конца ко второму, а
+ * вес равен числу шагов. В кольце без развилок вершиной становится одна из его ячеек. В идеальных лабиринтах вершин в
+ * несколько раз меньше, чем свободных ячеек, поэтому поиск по графу обходит меньше узлов и не тратит время на ячейки
+ * коридоров.
+ *
+ * <p>Граф строится за один проход по лабиринту и кэшируется по сетке через {@link #of(Maze)}. Кэш сравнивает сетки по
+ * ссылке, поэтому лабиринт после первого поиска менять нельзя. Сетку граф не хранит, её передают в каждый запрос, чтобы
+ * кэш мог освободить граф вместе с лабиринтом. Построенный граф только читается и может использоваться из разных
+ * потоков.
+ */
+public final class CorridorGraph {
+    private static final GridCache<CorridorGraph> CACHE = new GridCache<>(CorridorGraph::new);
+
+    private final int rows;
+    private final int cols;
+    private final long[] nodeBits;
+    // индексы ячеек-вершин по возрастанию, номер вершины — позиция в массиве
+    private final int[] nodeCells;
+    private final int[] firstEdge;
+    private final int[] edges;
+    private final int[] endA;
+    private final int[] endB;
+    // внутренние ячейки коридора k лежат в cells[cellStart[k] .. cellStart[k + 1])
+    private final int[] cellStart;
+    private final int[] cells;
+
+    private CorridorGraph(Maze maze) {
+        BitGrid grid = maze.grid();
+        rows = maze.x();
+        cols = maze.y();
+        int size = SolverAStar.cellCount(rows, cols);
+        nodeBits = new long[(size + 63) >>> 6];
+        for (int cell = 0; cell < size; cell++) {
+            if (grid.isPath(cell) && degree(grid, cell) != 2) set(nodeBits, cell);
+        }
+        breakRings(grid, size);
+
+        int nodes = 0;
+        for (long word : nodeBits) {
+            nodes += Long.bitCount(word);
+        }
+        nodeCells = new int[nodes];
+        int n = 0;
+        for (int w = 0; w < nodeBits.length; w++) {
+            for (long word = nodeBits[w]; word != 0; word &= word - 1) {
+                nodeCells[n++] = (w << 6) + Long.numberOfTrailingZeros(word);
+            }
+        }
+
+        Builder builder = new Builder();
+        int[] neighbours = new int[4];
+        for (int node = 0; node < nodes; node++) {
+            int count = neighbours(grid, nodeCells[node], neighbours);
+            for (int i = 0; i < count; i++) {
+                builder.trace(grid, node, neighbours[i]);
+            }
+        }
+        endA = Arrays.copyOf(builder.endA, builder.corridors);
+        endB = Arrays.copyOf(builder.endB, builder.corridors);
+        cellStart = Arrays.copyOf(builder.cellStart, builder.corridors + 1);
+        cells = Arrays.copyOf(builder.cells, builder.cellCount);
+
+        firstEdge = new int[nodes + 1];
+        for (int k = 0; k < endA.length; k++) {
+            firstEdge[endA[k] + 1]++;
+            firstEdge[endB[k] + 1]++;
+        }
+        for (int node = 0; node < nodes; node++) {
+            firstEdge[node + 1] += firstEdge[node];
+        }
+        edges = new int[firstEdge[nodes]];
+        int[] fill = Arrays.copyOf(firstEdge, nodes);
+        for (int k = 0; k < endA.length; k++) {
+            edges[fill[endA[k]]++] = k;
+            edges[fill[endB[k]]++] = k;
+        }
+    }
+
+    /** Граф для лабиринта: из кэша, если он уже строился для той же сетки, иначе новый. */
+    public static CorridorGraph of(Maze maze) {
+        return CACHE.get(maze);
+    }
+
+    public int nodeCount() {
+        return nodeCells.length;
+    }
+
+    public int corridorCount() {
+        return endA.length;
+    }
+
+    /**
+     * Кратчайший путь по графу: Дейкстра или A* с манхэттенской эвристикой, которая допустима, потому что вес коридора
+     * не меньше манхэттенского расстояния между его концами. Точка внутри коридора подключается к обоим его концам, а
+     * путь в конце разворачивается обратно в ячейки.
+     *
+     * @param maze лабиринт, для которого построен граф.
+     * @param workspace рабочие массивы поиска по вершинам графа.
+     * @return путь или путь длины 0, если его нет или одна из точек в стене.
+     */
+    Path shortestPath(Maze maze, Point start, Point end, boolean heuristic, SolverWorkspace workspace) {
+        BitGrid grid = maze.grid();
+        int startCell = start.x() * cols + start.y();
+        int endCell = end.x() * cols + end.y();
+        if (grid.isWall(start.x(), start.y()) || grid.isWall(end.x(), end.y())) return Path.empty();
+        if (startCell == endCell) return Path.of(new int[] {startCell}, cols);
+
+        Anchor from = anchor(grid, startCell), to = anchor(grid, endCell);
+        int best = Integer.MAX_VALUE, bestNode = -1;
+        if (from.corridor >= 0 && from.corridor == to.corridor) {
+            best = Math.abs(from.position - to.position);
+        }
+
+        workspace.begin(nodeCells.length);
+        IndexedMinHeap queue = workspace.heap();
+        if (from.corridor < 0) {
+            workspace.reach(from.node, 0, -1);
+            queue.push(from.node, estimate(from.node, end, heuristic));
+        } else {
+            // родитель -1 — пришли со стороны первого конца коридора, -2 — со стороны второго
+            int k = from.corridor;
+            workspace.reach(endA[k], from.position + 1, -1);
+            if (length(k) - from.position < workspace.distance(endB[k])) {
+                workspace.reach(endB[k], length(k) - from.position, -2);
+            }
+            queue.push(endA[k], workspace.distance(endA[k]) + estimate(endA[k], end, heuristic));
+            queue.push(endB[k], workspace.distance(endB[k]) + estimate(endB[k], end, heuristic));
+        }
+
+        while (!queue.isEmpty() && queue.peekPriority() < best) {
+            int node = queue.poll();
+            workspace.settle(node);
+            int distance = workspace.distance(node);
+            int tail = tail(to, node);
+            if (tail != Integer.MAX_VALUE && distance + tail < best) {
+                best = distance + tail;
+                bestNode = node;
+            }
+            for (int e = firstEdge[node]; e < firstEdge[node + 1]; e++) {
+                int k = edges[e];
+                int next = endA[k] == node ? endB[k] : endA[k];
+                if (next == node || workspace.isSettled(next)) continue;
+                int nd = distance + length(k) + 1;
+                if (nd < workspace.distance(next)) {
+                    workspace.reach(next, nd, k);
+                    queue.push(next, nd + estimate(next, end, heuristic));
+                }
+            }
+        }
+        if (best == Integer.MAX_VALUE) return Path.empty();
+
+        int[] path = new int[best + 1];
+        int size;
+        if (bestNode < 0) {
+            size = walk(from.corridor, from.position, to.position, path, 0);
+        } else {
+            size = unwind(from, bestNode, workspace, path);
+            if (to.corridor >= 0) {
+                int k = to.corridor;
+                boolean first = endA[k] == bestNode
+                        && (endB[k] != bestNode || to.position + 1 <= length(k) - to.position);
+                size = first ? walk(k, 0, to.position, path, size) : walk(k, length(k) - 1, to.position, path, size);
+            }
+        }
+        return Path.of(size == path.length ? path : Arrays.copyOf(path, size), cols);
+    }
+
+    /** Записывает путь от начальной точки до вершины {@code last} по родителям поиска, возвращает его длину. */
+    private int unwind(Anchor from, int last, SolverWorkspace workspace, int[] path) {
+        int[] parents = workspace.parents();
+        int hops = 0;
+        for (int node = last; parents[node] >= 0; node = other(parents[node], node)) {
+            hops++;
+        }
+        int[] chain = new int[hops];
+        int root = last;
+        for (int i = hops - 1; i >= 0; i--) {
+            chain[i] = parents[root];
+            root = other(chain[i], root);
+        }
+
+        int size = 0;
+        if (from.corridor >= 0) {
+            int k = from.corridor;
+            size = parents[root] == -1
+                    ? walk(k, from.position, 0, path, size)
+                    : walk(k, from.position, length(k) - 1, path, size);
+        }
+        path[size++] = nodeCells[root];
+        int node = root;
+        for (int k : chain) {
+            boolean forward = endA[k] == node;
+            if (forward) {
+                size = walk(k, 0, length(k) - 1, path, size);
+            } else {
+                size = walk(k, length(k) - 1, 0, path, size);
+            }
+            node = forward ? endB[k] : endA[k];
+            path[size++] = nodeCells[node];
+        }
+        return size;
+    }
+
+    /** Дописывает внутренние ячейки коридора с позиции {@code from} по {@code to} включительно. */
+    private int walk(int k, int from, int to, int[] path, int size) {
+        if (length(k) == 0) return size;
+        int step = from <= to ? 1 : -1;
+        for (int i = from; i != to + step; i += step) {
+            path[size++] = cells[cellStart[k] + i];
+        }
+        return size;
+    }
+
+    /** Сколько шагов от вершины до конечной точки, если она рядом, иначе {@link Integer#MAX_VALUE}. */
+    private int tail(Anchor to, int node) {
+        if (to.corridor < 0) return to.node == node ? 0 : Integer.MAX_VALUE;
+        int k = to.corridor;
+        int tail = Integer.MAX_VALUE;
+        if (endA[k] == node) tail = to.position + 1;
+        if (endB[k] == node) tail = Math.min(tail, length(k) - to.position);
+        return tail;
+    }
+
+    private int estimate(int node, Point end, boolean heuristic) {
+        if (!heuristic) return 0;
+        int cell = nodeCells[node];
+        return Math.abs(cell / cols - end.x()) + Math.abs(cell % cols - end.y());
+    }
+
+    /** Вершина, если ячейка — вершина, иначе коридор и позиция ячейки в нём. */
+    private Anchor anchor(BitGrid grid, int cell) {
+        if (get(nodeBits, cell)) return new Anchor(Arrays.binarySearch(nodeCells, cell), -1, 0);
+
+        int[] neighbours = new int[4];
+        neighbours(grid, cell, neighbours);
+        int previous = cell, current = neighbours[0], steps = 1;
+        while (!get(nodeBits, current)) {
+            int next = next(grid, current, previous);
+            previous = current;
+            current = next;
+            steps++;
+        }
+        int node = Arrays.binarySearch(nodeCells, current);
+        for (int e = firstEdge[node]; e < firstEdge[node + 1]; e++) {
+            int k = edges[e];
+            if (length(k) == 0) continue;
+            if (endA[k] == node && cells[cellStart[k]] == previous) return new Anchor(-1, k, steps - 1);
+            if (endB[k] == node && cells[cellStart[k + 1] - 1] == previous) {
+                return new Anchor(-1, k, length(k) - steps);
+            }
+        }
+        throw new IllegalStateException("Cell " + cell + " is not on any corridor");
+    }
+
+    private int length(int k) {
+        return cellStart[k + 1] - cellStart[k];
+    }
+
+    private int other(int k, int node) {
+        return endA[k] == node ? endB[k] : endA[k];
+    }
+
+    /**
+     * Кольца из ячеек с двумя соседями не содержат вершин, и по ним нельзя пройти от развилки. В каждом таком кольце
+     * вершиной объявляется ячейка, с которой начался обход.
+     */
+    private void breakRings(BitGrid grid, int size) {
+        long[] seen = new long[nodeBits.length];
+        int[] neighbours = new int[4];
+        for (int cell = 0; cell < size; cell++) {
+            if (!grid.isPath(cell) || get(nodeBits, cell) || get(seen, cell)) continue;
+            set(seen, cell);
+            neighbours(grid, cell, neighbours);
+            int other = neighbours[1];
+            int previous = cell, current = neighbours[0];
+            while (current != cell && !get(nodeBits, current)) {
+                set(seen, current);
+                int next = next(grid, current, previous);
+                previous = current;
+                current = next;
+            }
+            if (current == cell) {
+                set(nodeBits, cell);
+                continue;
+            }
+            previous = cell;
+            current = other;
+            while (!get(nodeBits, current)) {
+                set(seen, current);
+                int next = next(grid, current, previous);
+                previous = current;
+                current = next;
+            }
+        }
+    }
+
+    /** Следующая ячейка коридора: свободный сосед {@code cell}, отличный от {@code previous}. */
+    private int next(BitGrid grid, int cell, int previous) {
+        int r = cell / cols, c = cell % cols;
+        if (r > 0 && cell - cols != previous && grid.isPath(cell - cols)) return cell - cols;
+        if (r + 1 < rows && cell + cols != previous && grid.isPath(cell + cols)) return cell + cols;
+        if (c > 0 && cell - 1 != previous && grid.isPath(cell - 1)) return cell - 1;
+        return cell + 1;
+    }
+
+    private int neighbours(BitGrid grid, int cell, int[] result) {
+        int r = cell / cols, c = cell % cols;
+        int count = 0;
+        if (r > 0 && grid.isPath(cell - cols)) result[count++] = cell - cols;
+        if (r + 1 < rows && grid.isPath(cell + cols)) result[count++] = cell + cols;
+        if (c > 0 && grid.isPath(cell - 1)) result[count++] = cell - 1;
+        if (c + 1 < cols && grid.isPath(cell + 1)) result[count++] = cell + 1;
+        return count;
+    }
+
+    private int degree(BitGrid grid, int cell) {
+        int r = cell / cols, c = cell % cols;
+        int count = 0;
+        if (r > 0 && grid.isPath(cell - cols)) count++;
+        if (r + 1 < rows && grid.isPath(cell + cols)) count++;
+        if (c > 0 && grid.isPath(cell - 1)) count++;
+        if (c + 1 < cols && grid.isPath(cell + 1)) count++;
+        return count;
+    }
+
+    private static boolean get(long[] bits, int index) {
+        return (bits[index >>> 6] & (1L << index)) != 0;
+    }
+
+    private static void set(long[] bits, int index) {
+        bits[index >>> 6] |= 1L << index;
+    }
+
+    /** Точка запроса: вершина {@code node} или позиция {@code position} внутри коридора {@code corridor}. */
+    private record Anchor(int node, int corridor, int position) {}
+
+    /** Растущие массивы коридоров на время построения. */
+    private final class Builder {
+        int[] endA = new int[16];
+        int[] endB = new int[16];
+        int[] cellStart = new int[17];
+        int[] cells = new int[16];
+        int corridors;
+        int cellCount;
+
+        /**
+         * Проходит коридор от вершины {@code node} через соседнюю ячейку {@code first}. Каждый коридор встречается
+         * дважды, с обоих концов; сохраняется только проход от вершины с меньшим номером, а для петли — от меньшей
+         * крайней ячейки.
+         */
+        void trace(BitGrid grid, int node, int first) {
+            int start = cellCount;
+            int previous = nodeCells[node], current = first;
+            while (!get(nodeBits, current)) {
+                if (cellCount == cells.length) cells = Arrays.copyOf(cells, 2 * cells.length);
+                cells[cellCount++] = current;
+                int next = next(grid, current, previous);
+                previous = current;
+                current = next;
+            }
+            int end = Arrays.binarySearch(nodeCells, current);
+            boolean keep = node < end || node == end && cells[start] < cells[cellCount - 1];
+            if (!keep) {
+                cellCount = start;
+                return;
+            }
+            if (corridors == endA.length) {
+                endA = Arrays.copyOf(endA, 2 * endA.length);
+                endB = Arrays.copyOf(endB, 2 * endB.length);
+                cellStart = Arrays.copyOf(cellStart, endA.length + 1);
+            }
+            endA[corridors] = node;
+            endB[corridors] = end;
+            cellStart[++corridors] = cellCount;
+        }
+    }
+}
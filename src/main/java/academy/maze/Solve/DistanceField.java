@@ -0,0 +1,167 @@
+package academy.maze.Solve;
+
+import academy.maze.HelpAlgorithm.BucketQueue;
+import academy.maze.HelpAlgorithm.BuilderPath;
+import academy.maze.dto.BitGrid;
+import academy.maze.dto.CostGrid;
+import academy.maze.dto.Maze;
+import academy.maze.dto.Path;
+import academy.maze.dto.Point;
+import java.util.Arrays;
+
+/**
+ * Расстояния от одной точки до всех ячеек лабиринта, посчитанные одним обходом в ширину, а в лабиринте с покрытиями —
+ * алгоритмом Дайала по стоимостям ячеек, как в {@link SolverDial}. Кроме расстояний хранится родитель каждой
+ * достигнутой ячейки, поэтому самый дешёвый путь до любой цели восстанавливается за его длину без нового поиска.
+ * Ячейки кодируются индексом {@code row * cols + col}. После построения поле не меняется и может читаться из разных
+ * потоков.
+ */
+public final class DistanceField {
+    /** Расстояние до недостижимой ячейки и родитель источника. */
+    public static final int UNREACHABLE = -1;
+
+    private static final int[] DR = {1, -1, 0, 0};
+    private static final int[] DC = {0, 0, 1, -1};
+
+    private final int rows;
+    private final int cols;
+    private final int source;
+    private final int[] distance;
+    private final int[] parent;
+    private final int farthest;
+
+    private DistanceField(int rows, int cols, int source, int[] distance, int[] parent, int farthest) {
+        this.rows = rows;
+        this.cols = cols;
+        this.source = source;
+        this.distance = distance;
+        this.parent = parent;
+        this.farthest = farthest;
+    }
+
+    /**
+     * Строит поле расстояний от {@code source}.
+     *
+     * @throws IllegalArgumentException если точка вне лабиринта или в стене.
+     */
+    public static DistanceField of(Maze maze, Point source) {
+        int rows = maze.x(), cols = maze.y();
+        BitGrid grid = maze.grid();
+        if (source.x() < 0 || source.x() >= rows || source.y() < 0 || source.y() >= cols) {
+            throw new IllegalArgumentException("Source point is outside the maze: " + source);
+        }
+        if (grid.isWall(source.x(), source.y())) {
+            throw new IllegalArgumentException("Source point is a wall: " + source);
+        }
+
+        int size = SolverAStar.cellCount(rows, cols);
+        int[] distance = new int[size];
+        int[] parent = new int[size];
+        Arrays.fill(distance, UNREACHABLE);
+        int start = source.x() * cols + source.y();
+        distance[start] = 0;
+        parent[start] = UNREACHABLE;
+        int farthest = maze.isWeighted()
+                ? cheapest(grid, maze.costs(), rows, cols, start, distance, parent)
+                : breadthFirst(grid, rows, cols, start, distance, parent);
+        return new DistanceField(rows, cols, start, distance, parent, farthest);
+    }
+
+    /** Обход в ширину, возвращает последнюю извлечённую ячейку — самую дальнюю. */
+    private static int breadthFirst(BitGrid grid, int rows, int cols, int start, int[] distance, int[] parent) {
+        // очередь обхода: каждая ячейка попадает в неё один раз
+        int[] queue = new int[distance.length];
+        int head = 0, tail = 0;
+        queue[tail++] = start;
+        int current = start;
+        while (head < tail) {
+            current = queue[head++];
+            int r = current / cols, c = current % cols;
+            int nd = distance[current] + 1;
+            for (int d = 0; d < DR.length; d++) {
+                int nr = r + DR[d], nc = c + DC[d];
+                if (nr < 0 || nr >= rows || nc < 0 || nc >= cols) continue;
+                int next = current + DR[d] * cols + DC[d];
+                if (distance[next] != UNREACHABLE || grid.isWall(nr, nc)) continue;
+                distance[next] = nd;
+                parent[next] = current;
+                queue[tail++] = next;
+            }
+        }
+        return current;
+    }
+
+    /** Алгоритм Дайала: шаг стоит столько, сколько ячейка, в которую он ведёт. Возвращает самую дорогую ячейку. */
+    private static int cheapest(
+            BitGrid grid, CostGrid costs, int rows, int cols, int start, int[] distance, int[] parent) {
+        BucketQueue queue = new BucketQueue(distance.length, costs.maxCost());
+        queue.push(start, 0);
+        int current = start;
+        while (!queue.isEmpty()) {
+            current = queue.poll();
+            int r = current / cols, c = current % cols;
+            for (int d = 0; d < DR.length; d++) {
+                int nr = r + DR[d], nc = c + DC[d];
+                if (nr < 0 || nr >= rows || nc < 0 || nc >= cols) continue;
+                int next = current + DR[d] * cols + DC[d];
+                if (grid.isWall(nr, nc)) continue;
+                // у извлечённой ячейки расстояние окончательное, и обновление её не пройдёт
+                int nd = distance[current] + costs.cost(next);
+                if (distance[next] == UNREACHABLE || nd < distance[next]) {
+                    distance[next] = nd;
+                    parent[next] = current;
+                    queue.push(next, nd);
+                }
+            }
+        }
+        return current;
+    }
+
+    public Point source() {
+        return point(source);
+    }
+
+    /**
+     * Стоимость самого дешёвого пути от источника (в лабиринте без покрытий — число шагов) или {@link #UNREACHABLE},
+     * если точка вне лабиринта или недостижима.
+     */
+    public int distance(Point point) {
+        return inBounds(point) ? distance[point.x() * cols + point.y()] : UNREACHABLE;
+    }
+
+    public boolean isReachable(Point point) {
+        return distance(point) != UNREACHABLE;
+    }
+
+    /** Одна из самых дальних (самых дорогих) от источника достижимых ячеек. */
+    public Point farthest() {
+        return point(farthest);
+    }
+
+    /** Самый дешёвый путь от источника до {@code target} или путь длины 0, если цель недостижима. */
+    public Path pathTo(Point target) {
+        if (!isReachable(target)) return Path.empty();
+        return BuilderPath.buildPath(parent, cols, source, target.x() * cols + target.y());
+    }
+
+    /** Расстояния по индексам ячеек. Массив не копируется, изменять его нельзя. */
+    public int[] distances() {
+        return distance;
+    }
+
+    /**
+     * Родители по индексам ячеек, {@link #UNREACHABLE} у источника. Значения действительны только для достижимых
+     * ячеек. Массив не копируется, изменять его нельзя.
+     */
+    public int[] parents() {
+        return parent;
+    }
+
+    private boolean inBounds(Point point) {
+        return point.x() >= 0 && point.x() < rows && point.y() >= 0 && point.y() < cols;
+    }
+
+    private Point point(int index) {
+        return new Point(index / cols, index % cols);
+    }
+}
@@ -0,0 +1,27 @@
+package academy.maze.Solve;
+
+import academy.maze.dto.BitGrid;
+import academy.maze.dto.Maze;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.util.function.Function;
+
+/**
+ * Кэш предрасчётов по лабиринту на {@link Caffeine}. Сетки сравниваются по ссылке, а не через
+ * {@link BitGrid#equals(Object)}, который читает всю сетку. Ключи слабые: запись удаляется, когда сетка больше нигде не
+ * используется, поэтому значения не должны ссылаться на сетку сами. Значения мягкие и освобождаются сборщиком при
+ * нехватке памяти. Значение строится один раз на сетку и без общей блокировки кэша, так что долгое построение не
+ * задерживает запросы к другим лабиринтам.
+ */
+final class GridCache<T> {
+    private final Cache<BitGrid, T> cache = Caffeine.newBuilder().weakKeys().softValues().build();
+    private final Function<Maze, T> factory;
+
+    GridCache(Function<Maze, T> factory) {
+        this.factory = factory;
+    }
+
+    T get(Maze maze) {
+        return cache.get(maze.grid(), grid -> factory.apply(maze));
+    }
+}
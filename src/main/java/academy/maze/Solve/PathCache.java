@@ -0,0 +1,197 @@
+package academy.maze.Solve;
+
+import academy.maze.dto.BitGrid;
+import academy.maze.dto.CostGrid;
+import academy.maze.dto.Maze;
+import academy.maze.dto.Path;
+import academy.maze.dto.Point;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.Map;
+
+/**
+ * Кэш найденных путей. Ключ — 64-битный отпечаток содержимого лабиринта, алгоритм и концы пути. Путь хранится как
+ * число шагов и по 2 бита на шаг (0 — вниз, 1 — вверх, 2 — вправо, 3 — влево, как в {@code MazeBinaryIO}), старт
+ * берётся из ключа, поэтому путь из 100 тысяч шагов занимает 25 КБ, в 16 раз меньше самого {@link Path}. Объём
+ * ограничен суммарным размером записей в байтах.
+ *
+ * <p>Отпечаток считается один раз на лабиринт и кэшируется по ссылке на него, поэтому ни сетку, ни стоимости нельзя
+ * менять после первого запроса. Содержимое кэша можно сохранить в файл и загрузить после перезапуска.
+ */
+public final class PathCache {
+    // слабые ключи сравниваются по ссылке: лабиринты с общей сеткой, но разными стоимостями получают разные отпечатки
+    private static final Cache<Maze, Long> FINGERPRINTS = Caffeine.newBuilder().weakKeys().build();
+    private static final int MAGIC = 'M' | 'Z' << 8 | 'P' << 16 | 'C' << 24;
+    private static final int VERSION = 1;
+    private static final int ENTRY_OVERHEAD = 64;
+    private static final int[] MOVE_ROW = {1, -1, 0, 0};
+    private static final int[] MOVE_COL = {0, 0, 1, -1};
+
+    private final Cache<Key, Moves> cache;
+
+    /** @param maxBytes сколько памяти могут занимать закэшированные пути. */
+    public PathCache(long maxBytes) {
+        if (maxBytes <= 0) {
+            throw new IllegalArgumentException("Cache size must be positive: " + maxBytes);
+        }
+        cache = Caffeine.newBuilder()
+                .maximumWeight(maxBytes)
+                .weigher((Key key, Moves moves) -> ENTRY_OVERHEAD + moves.packed().length)
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * Путь из кэша или решение {@code solver}, которое кэшируется. Отсутствие пути тоже кэшируется.
+     *
+     * @param algorithm имя алгоритма: разные решатели могут находить разные кратчайшие пути.
+     */
+    public Path solve(Solver solver, String algorithm, Maze maze, Point start, Point end) {
+        long fingerprint = FINGERPRINTS.get(maze, PathCache::fingerprint);
+        Key key = new Key(fingerprint, algorithm, start.x(), start.y(), end.x(), end.y());
+        return cache.get(key, k -> Moves.of(solver.solve(maze, start, end))).toPath(start, maze.y());
+    }
+
+    /** Решатель, который обращается к {@code solver} только при промахе кэша. */
+    public Solver wrap(String algorithm, Solver solver) {
+        return (maze, start, end) -> solve(solver, algorithm, maze, start, end);
+    }
+
+    /** Попадания, промахи и вытеснения с момента создания кэша. */
+    public CacheStats stats() {
+        return cache.stats();
+    }
+
+    public long size() {
+        return cache.estimatedSize();
+    }
+
+    /** Выполняет отложенное обслуживание кэша, в том числе вытеснение; нужно, чтобы статистика была точной. */
+    public void cleanUp() {
+        cache.cleanUp();
+    }
+
+    /** Записывает все пути кэша в файл, перезаписывая его. */
+    public void save(java.nio.file.Path file) throws IOException {
+        Map<Key, Moves> entries = cache.asMap();
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(file)))) {
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeInt(entries.size());
+            for (Map.Entry<Key, Moves> entry : entries.entrySet()) {
+                Key key = entry.getKey();
+                out.writeLong(key.fingerprint());
+                out.writeUTF(key.algorithm());
+                out.writeInt(key.startRow());
+                out.writeInt(key.startCol());
+                out.writeInt(key.endRow());
+                out.writeInt(key.endCol());
+                out.writeInt(entry.getValue().steps());
+                out.write(entry.getValue().packed());
+            }
+        }
+    }
+
+    /**
+     * Добавляет в кэш пути из файла, записанного {@link #save}.
+     *
+     * @throws IllegalArgumentException если файл не является файлом кэша путей.
+     */
+    public void load(java.nio.file.Path file) throws IOException {
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+            if (in.readInt() != MAGIC || in.readInt() != VERSION) {
+                throw new IllegalArgumentException("Not a path cache file: " + file.toAbsolutePath());
+            }
+            int count = in.readInt();
+            for (int i = 0; i < count; i++) {
+                Key key = new Key(in.readLong(), in.readUTF(), in.readInt(), in.readInt(), in.readInt(), in.readInt());
+                int steps = in.readInt();
+                byte[] packed = new byte[Moves.bytes(steps)];
+                in.readFully(packed);
+                cache.put(key, new Moves(steps, packed));
+            }
+        }
+    }
+
+    /**
+     * 64-битный отпечаток лабиринта: размеры, слова сетки и стоимости ячеек, перемешанные по схеме из финализатора
+     * MurmurHash3. Считается за один проход по {@code long[]} сетки.
+     */
+    static long fingerprint(Maze maze) {
+        BitGrid grid = maze.grid();
+        long hash = mix(((long) grid.rows() << 32) ^ grid.cols());
+        for (int i = 0; i < grid.words(); i++) {
+            hash = mix(hash ^ grid.word(i)) + i;
+        }
+        CostGrid costs = maze.costs();
+        if (costs != null) {
+            int size = costs.rows() * costs.cols();
+            for (int i = 0; i < size; i++) {
+                hash = hash * 31 + costs.cost(i);
+            }
+            hash = mix(hash);
+        }
+        return hash;
+    }
+
+    private static long mix(long h) {
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+
+    private record Key(long fingerprint, String algorithm, int startRow, int startCol, int endRow, int endCol) {}
+
+    /**
+     * Путь без стартовой точки: число шагов и их направления по 4 на байт. {@code steps == -1} — путь не найден.
+     */
+    private record Moves(int steps, byte[] packed) {
+        static Moves of(Path path) {
+            if (path.isEmpty()) return new Moves(-1, new byte[0]);
+            byte[] packed = new byte[bytes(path.length() - 1)];
+            for (int i = 1; i < path.length(); i++) {
+                int move = move(path.row(i) - path.row(i - 1), path.col(i) - path.col(i - 1));
+                if (move < 0) {
+                    throw new IllegalArgumentException(
+                            "Path points " + path.point(i - 1) + " and " + path.point(i) + " are not adjacent");
+                }
+                packed[(i - 1) >>> 2] |= (byte) (move << (2 * ((i - 1) & 3)));
+            }
+            return new Moves(path.length() - 1, packed);
+        }
+
+        static int bytes(int steps) {
+            return steps > 0 ? (steps + 3) >>> 2 : 0;
+        }
+
+        Path toPath(Point start, int cols) {
+            if (steps < 0) return Path.empty();
+            int[] cells = new int[steps + 1];
+            int cell = start.x() * cols + start.y();
+            cells[0] = cell;
+            for (int i = 1; i <= steps; i++) {
+                int move = (packed[(i - 1) >>> 2] >>> (2 * ((i - 1) & 3))) & 3;
+                cell += MOVE_ROW[move] * cols + MOVE_COL[move];
+                cells[i] = cell;
+            }
+            return Path.of(cells, cols);
+        }
+
+        private static int move(int dr, int dc) {
+            for (int move = 0; move < MOVE_ROW.length; move++) {
+                if (MOVE_ROW[move] == dr && MOVE_COL[move] == dc) return move;
+            }
+            return -1;
+        }
+    }
+}
@@ -0,0 +1,168 @@
+package academy.maze.Solve;
+
+import academy.maze.HelpAlgorithm.LatencyHistogram;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * Планировщик конкурентных решений для долгоживущего режима. Каждый запрос выполняется в своём виртуальном потоке,
+ * но одновременно решается не больше {@code maxInFlight} запросов, остальные ждут разрешения. Ожидающих не больше
+ * {@code maxWaiting}, и каждый ждёт не дольше {@code maxQueueTime}: лишние запросы сразу отклоняются
+ * {@link RejectedExecutionException}, чтобы перегрузка не копилась в очереди.
+ *
+ * <p>Решатели не потокобезопасны и дороги в создании из-за рабочих массивов, а привязывать их к виртуальным потокам
+ * через {@link ThreadLocal} бессмысленно. Поэтому на каждый алгоритм есть пул свободных решателей: запрос берёт
+ * решатель из пула и возвращает его по завершении, так что решателей не больше, чем запросов в работе. Лабиринт
+ * читается всеми запросами одновременно, его стоит заморозить через {@code Maze.freeze()}.
+ *
+ * <p>Для каждого запроса записываются время ожидания и полная задержка от постановки в очередь до результата.
+ */
+public final class SolveScheduler implements AutoCloseable {
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final Map<String, Queue<Solver>> solvers = new ConcurrentHashMap<>();
+    private final Semaphore permits;
+    private final int maxInFlight;
+    private final int maxWaiting;
+    private final long maxQueueNanos;
+    private final AtomicInteger waiting = new AtomicInteger();
+    private final LongAdder rejected = new LongAdder();
+    private final LatencyHistogram queueTime = new LatencyHistogram();
+    private final LatencyHistogram latency = new LatencyHistogram();
+
+    /**
+     * @param maxInFlight сколько запросов решается одновременно.
+     * @param maxWaiting сколько запросов может ждать разрешения.
+     * @param maxQueueTime сколько запрос может ждать разрешения, прежде чем будет отклонён.
+     */
+    public SolveScheduler(int maxInFlight, int maxWaiting, Duration maxQueueTime) {
+        if (maxInFlight <= 0 || maxWaiting < 0 || maxQueueTime.isNegative()) {
+            throw new IllegalArgumentException("Invalid scheduler limits: " + maxInFlight + " in flight, "
+                    + maxWaiting + " waiting, " + maxQueueTime + " queue time");
+        }
+        this.permits = new Semaphore(maxInFlight, true);
+        this.maxInFlight = maxInFlight;
+        this.maxWaiting = maxWaiting;
+        this.maxQueueNanos = maxQueueTime.toNanos();
+    }
+
+    /**
+     * Ставит в очередь работу с решателем алгоритма {@code algorithm}.
+     *
+     * @param work запрос, которому на время выполнения отдан решатель из пула.
+     * @return результат работы; завершается с {@link RejectedExecutionException}, если запрос не дождался разрешения.
+     * @throws IllegalArgumentException если алгоритм неизвестен.
+     * @throws RejectedExecutionException если очередь ожидания заполнена.
+     */
+    public <T> CompletableFuture<T> submit(String algorithm, Function<Solver, T> work) {
+        if (ChooseSolver.choose(algorithm) == null) {
+            throw new IllegalArgumentException("Unknown algorithm: " + algorithm);
+        }
+        // запрос, которому хватит свободного разрешения, в очереди не задержится
+        if (waiting.incrementAndGet() > maxWaiting + permits.availablePermits()) {
+            waiting.decrementAndGet();
+            rejected.increment();
+            throw new RejectedExecutionException("Too many queued requests: " + maxWaiting);
+        }
+        long queued = System.nanoTime();
+        CompletableFuture<T> result = new CompletableFuture<>();
+        executor.execute(() -> run(algorithm, work, queued, result));
+        return result;
+    }
+
+    /**
+     * Выполняет работу и ждёт её результата.
+     *
+     * @throws RejectedExecutionException если запрос отклонён.
+     */
+    public <T> T solve(String algorithm, Function<Solver, T> work) {
+        try {
+            return submit(algorithm, work).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) throw cause;
+            throw e;
+        }
+    }
+
+    public Stats stats() {
+        return new Stats(
+                maxInFlight - permits.availablePermits(),
+                waiting.get(),
+                rejected.sum(),
+                queueTime.snapshot(),
+                latency.snapshot());
+    }
+
+    /** Перестаёт принимать запросы и ждёт завершения начатых. */
+    @Override
+    public void close() {
+        executor.close();
+    }
+
+    private <T> void run(String algorithm, Function<Solver, T> work, long queued, CompletableFuture<T> result) {
+        boolean admitted;
+        try {
+            admitted = permits.tryAcquire(maxQueueNanos, TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            admitted = false;
+        } finally {
+            waiting.decrementAndGet();
+        }
+        queueTime.record(System.nanoTime() - queued);
+        if (!admitted) {
+            rejected.increment();
+            result.completeExceptionally(new RejectedExecutionException(
+                    "Request waited longer than " + Duration.ofNanos(maxQueueNanos).toMillis() + " ms"));
+            return;
+        }
+        Queue<Solver> pool = solvers.computeIfAbsent(algorithm, key -> new ConcurrentLinkedQueue<>());
+        Solver solver = pool.poll();
+        if (solver == null) solver = ChooseSolver.choose(algorithm);
+        T value = null;
+        Throwable failure = null;
+        try {
+            value = work.apply(solver);
+        } catch (RuntimeException | Error e) {
+            failure = e;
+        } finally {
+            pool.offer(solver);
+            permits.release();
+            latency.record(System.nanoTime() - queued);
+        }
+        // результат отдаётся после учёта, чтобы вызывающий сразу видел этот запрос в stats()
+        if (failure != null) {
+            result.completeExceptionally(failure);
+        } else {
+            result.complete(value);
+        }
+    }
+
+    /**
+     * Состояние планировщика.
+     *
+     * @param inFlight запросов решается сейчас.
+     * @param waiting запросов ждёт разрешения.
+     * @param rejected запросов отклонено с момента создания.
+     * @param queueTime время ожидания разрешения.
+     * @param latency время от постановки в очередь до результата.
+     */
+    public record Stats(
+            int inFlight,
+            int waiting,
+            long rejected,
+            LatencyHistogram.Snapshot queueTime,
+            LatencyHistogram.Snapshot latency) {}
+}
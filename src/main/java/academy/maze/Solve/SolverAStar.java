@@ -1,96 +1,74 @@
 package academy.maze.Solve;
 
-import academy.maze.HelpAlgorithm.Bounds;
 import academy.maze.HelpAlgorithm.BuilderPath;
-import academy.maze.dto.CellType;
+import academy.maze.HelpAlgorithm.IndexedMinHeap;
+import academy.maze.dto.BitGrid;
+import academy.maze.dto.CostGrid;
 import academy.maze.dto.Maze;
 import academy.maze.dto.Path;
 import academy.maze.dto.Point;
-import java.util.Arrays;
-import java.util.PriorityQueue;
 
+/**
+ * A* с манхэттенской эвристикой. Ячейки кодируются индексом {@code row * cols + col}, открытое множество — куча
+ * {@link IndexedMinHeap} с порядком (f, строка, столбец). В лабиринте с покрытиями шаг стоит столько, сколько ячейка,
+ * на которую он ведёт, а эвристика умножается на минимальную стоимость ячейки, чтобы остаться допустимой. Массивы
+ * поиска лежат в {@link SolverWorkspace} и переиспользуются следующими вызовами, поэтому экземпляр нельзя использовать
+ * из нескольких потоков одновременно.
+ */
 public class SolverAStar implements Solver {
+    private static final int[] DR = {1, -1, 0, 0};
+    private static final int[] DC = {0, 0, 1, -1};
+
+    private final SolverWorkspace workspace = new SolverWorkspace();
+
     @Override
     public Path solve(Maze maze, Point start, Point end) {
         int rows = maze.x(), cols = maze.y();
-        CellType[][] grid = maze.cells();
-
-        int[][] gScore = new int[rows][cols];
-        Point[][] parent = new Point[rows][cols];
-        boolean[][] visited = new boolean[rows][cols];
-
-        for (int i = 0; i < rows; i++) {
-            Arrays.fill(gScore[i], Integer.MAX_VALUE);
-        }
+        BitGrid grid = maze.grid();
+        CostGrid costs = maze.costs();
+        int scale = costs != null ? costs.minCost() : 1;
+        workspace.begin(cellCount(rows, cols));
+        IndexedMinHeap open = workspace.heap();
 
-        PriorityQueue<Node> pq = new PriorityQueue<>();
-        gScore[start.x()][start.y()] = 0;
-        pq.add(new Node(start, euristic(start, end)));
+        int startIndex = start.x() * cols + start.y();
+        int endIndex = end.x() * cols + end.y();
+        int endRow = end.x(), endCol = end.y();
 
-        int[][] dir = {{1, 0}, {-1, 0}, {0, 1}, {0, -1}};
-        while (!pq.isEmpty()) {
-            Node current = pq.poll();
-            Point p = current.point;
+        workspace.reach(startIndex, 0, -1);
+        open.push(startIndex, scale * euristic(start.x(), start.y(), endRow, endCol));
 
-            if (visited[p.x()][p.y()]) continue;
-            visited[p.x()][p.y()] = true;
-            if (p.equals(end)) return BuilderPath.buildPath(parent, start, end);
+        while (!open.isEmpty()) {
+            int current = open.poll();
+            workspace.settle(current);
+            if (current == endIndex) return BuilderPath.buildPath(workspace.parents(), cols, startIndex, endIndex);
 
-            for (int[] d : dir) {
-                int nx = p.x() + d[0], ny = p.y() + d[1];
-                if (!Bounds.inBounds(nx, ny, rows, cols)) continue;
-                if (grid[nx][ny] == CellType.WALL) continue;
+            int r = current / cols, c = current % cols;
+            int g = workspace.distance(current);
+            for (int d = 0; d < DR.length; d++) {
+                int nr = r + DR[d], nc = c + DC[d];
+                if (nr < 0 || nr >= rows || nc < 0 || nc >= cols) continue;
+                int next = current + DR[d] * cols + DC[d];
+                if (workspace.isSettled(next) || grid.isWall(nr, nc)) continue;
 
-                int tentative = gScore[p.x()][p.y()] + 1;
-                if (tentative < gScore[nx][ny]) {
-                    gScore[nx][ny] = tentative;
-                    parent[nx][ny] = p;
-                    int f = tentative + euristic(new Point(nx, ny), end);
-                    pq.add(new Node(new Point(nx, ny), f));
+                int tentative = g + (costs != null ? costs.cost(next) : 1);
+                if (tentative < workspace.distance(next)) {
+                    workspace.reach(next, tentative, current);
+                    open.push(next, tentative + scale * euristic(nr, nc, endRow, endCol));
                 }
             }
         }
-        return new Path(new Point[0]);
-    }
-
-    private int euristic(Point a, Point b) {
-        return Math.abs(a.x() - b.x()) + Math.abs(a.y() - b.y());
+        return Path.empty();
     }
 
-    private static class Node implements Comparable<Node> {
-        private final Point point;
-        private final int f;
-
-        public Node(Point point, int f) {
-            this.point = point;
-            this.f = f;
-        }
-
-        @Override
-        public int compareTo(Node o) {
-            int cmp = Integer.compare(this.f, o.f);
-            if (cmp != 0) {
-                return cmp;
-            }
-            cmp = Integer.compare(this.point.x(), o.point.x());
-            if (cmp != 0) {
-                return cmp;
-            }
-            return Integer.compare(this.point.y(), o.point.y());
-        }
-
-        @Override
-        public boolean equals(Object obj) {
-            if (this == obj) return true;
-            if (!(obj instanceof Node other)) return false;
-            return this.f == other.f && this.point.equals(other.point);
+    static int cellCount(int rows, int cols) {
+        long size = (long) rows * cols;
+        if (size > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Maze is too large to solve: " + rows + "x" + cols);
         }
+        return (int) size;
+    }
 
-        @Override
-        public int hashCode() {
-            int result = Integer.hashCode(f);
-            result = 31 * result + point.hashCode();
-            return result;
-        }
+    private int euristic(int row, int col, int endRow, int endCol) {
+        return Math.abs(row - endRow) + Math.abs(col - endCol);
     }
 }
@@ -0,0 +1,135 @@
+package academy.maze.Solve;
+
+import academy.maze.HelpAlgorithm.BuilderPath;
+import academy.maze.HelpAlgorithm.IndexedMinHeap;
+import academy.maze.dto.BitGrid;
+import academy.maze.dto.Maze;
+import academy.maze.dto.Path;
+import academy.maze.dto.Point;
+
+/**
+ * Двунаправленный поиск: одновременно от {@code start} и от {@code end}, каждый раз расширяется сторона с меньшей
+ * очередью. В режиме A* используются усреднённые потенциалы {@code (h_end(v) - h_start(v)) / 2}, они согласованы в обе
+ * стороны. Ключи хранятся удвоенными, чтобы остаться в целых числах: {@code 2 * d(v) ± (h_end(v) - h_start(v))}.
+ *
+ * <p>У каждого направления свой {@link SolverWorkspace}, поэтому экземпляр не потокобезопасен. Обратный поиск считает
+ * шаги единичными, поэтому лабиринты с покрытиями решаются обычным {@link SolverAStar}.
+ *
+ * <p>Сумма ключей вершины из двух направлений равна удвоенной длине пути через неё, поэтому поиск останавливается,
+ * когда сумма минимальных ключей двух очередей не меньше удвоенной длины лучшего найденного пути.
+ */
+public class SolverBidirectional implements Solver {
+    private static final int[] DR = {1, -1, 0, 0};
+    private static final int[] DC = {0, 0, 1, -1};
+
+    private final boolean heuristic;
+    private final SolverWorkspace forwardWorkspace = new SolverWorkspace();
+    private final SolverWorkspace backwardWorkspace = new SolverWorkspace();
+    private final Solver weighted = new SolverAStar();
+
+    /** @param heuristic {@code true} — двунаправленный A*, {@code false} — двунаправленный Дейкстра. */
+    public SolverBidirectional(boolean heuristic) {
+        this.heuristic = heuristic;
+    }
+
+    public boolean usesHeuristic() {
+        return heuristic;
+    }
+
+    @Override
+    public Path solve(Maze maze, Point start, Point end) {
+        if (maze.isWeighted()) return weighted.solve(maze, start, end);
+        int rows = maze.x(), cols = maze.y();
+        int startIndex = start.x() * cols + start.y();
+        int endIndex = end.x() * cols + end.y();
+        if (startIndex == endIndex) return Path.of(new int[] {startIndex}, cols);
+
+        int size = SolverAStar.cellCount(rows, cols);
+        Search forward = new Search(forwardWorkspace, size, maze.grid(), rows, cols, start, end);
+        Search backward = new Search(backwardWorkspace, size, maze.grid(), rows, cols, end, start);
+        forward.other = backward;
+        backward.other = forward;
+        forward.open(startIndex);
+        backward.open(endIndex);
+
+        Meeting meeting = new Meeting();
+        while (!forward.queue.isEmpty() && !backward.queue.isEmpty()) {
+            long bound = (long) forward.queue.peekPriority() + backward.queue.peekPriority();
+            if (meeting.node >= 0 && bound >= 2L * meeting.length) break;
+
+            Search side = forward.queue.size() <= backward.queue.size() ? forward : backward;
+            side.expand(meeting);
+        }
+
+        if (meeting.node < 0) return Path.empty();
+        return BuilderPath.buildPath(
+                forwardWorkspace.parents(), backwardWorkspace.parents(), cols, startIndex, meeting.node, endIndex);
+    }
+
+    private static final class Meeting {
+        private int node = -1;
+        private int length = Integer.MAX_VALUE;
+    }
+
+    private final class Search {
+        private final BitGrid grid;
+        private final int rows;
+        private final int cols;
+        private final int sourceRow;
+        private final int sourceCol;
+        private final int targetRow;
+        private final int targetCol;
+        private final SolverWorkspace workspace;
+        private final IndexedMinHeap queue;
+        private Search other;
+
+        Search(SolverWorkspace workspace, int size, BitGrid grid, int rows, int cols, Point source, Point target) {
+            this.grid = grid;
+            this.rows = rows;
+            this.cols = cols;
+            this.sourceRow = source.x();
+            this.sourceCol = source.y();
+            this.targetRow = target.x();
+            this.targetCol = target.y();
+            this.workspace = workspace;
+            workspace.begin(size);
+            this.queue = workspace.heap();
+        }
+
+        void open(int index) {
+            workspace.reach(index, 0, -1);
+            queue.push(index, key(index / cols, index % cols, 0));
+        }
+
+        void expand(Meeting meeting) {
+            int current = queue.poll();
+            workspace.settle(current);
+
+            int r = current / cols, c = current % cols;
+            int tentative = workspace.distance(current) + 1;
+            for (int d = 0; d < DR.length; d++) {
+                int nr = r + DR[d], nc = c + DC[d];
+                if (nr < 0 || nr >= rows || nc < 0 || nc >= cols) continue;
+                int next = current + DR[d] * cols + DC[d];
+                if (workspace.isSettled(next) || grid.isWall(nr, nc)) continue;
+
+                if (tentative < workspace.distance(next)) {
+                    workspace.reach(next, tentative, current);
+                    queue.push(next, key(nr, nc, tentative));
+                }
+                int otherDistance = other.workspace.distance(next);
+                if (otherDistance != Integer.MAX_VALUE && workspace.distance(next) + otherDistance < meeting.length) {
+                    meeting.length = workspace.distance(next) + otherDistance;
+                    meeting.node = next;
+                }
+            }
+        }
+
+        private int key(int row, int col, int dist) {
+            if (!heuristic) return 2 * dist;
+            int toTarget = Math.abs(row - targetRow) + Math.abs(col - targetCol);
+            int toSource = Math.abs(row - sourceRow) + Math.abs(col - sourceCol);
+            return 2 * dist + toTarget - toSource;
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package academy.maze.Solve;
+
+import academy.maze.dto.Maze;
+import academy.maze.dto.Path;
+import academy.maze.dto.Point;
+
+/**
+ * Поиск по сжатому графу коридоров {@link CorridorGraph}: Дейкстра или A* идут только по развилкам и тупикам, а путь
+ * потом разворачивается в ячейки. Граф берётся из общего кэша и строится один раз на лабиринт, поэтому выгода видна на
+ * повторных запросах к одному лабиринту. Вес коридора — число шагов, поэтому лабиринты с покрытиями передаются
+ * {@link SolverAStar}. Экземпляр держит свой {@link SolverWorkspace} и не потокобезопасен.
+ */
+public class SolverCorridor implements Solver {
+    private final Solver weighted = new SolverAStar();
+    private final boolean heuristic;
+    private final SolverWorkspace workspace = new SolverWorkspace();
+
+    /** @param heuristic {@code true} — A* по графу, {@code false} — Дейкстра. */
+    public SolverCorridor(boolean heuristic) {
+        this.heuristic = heuristic;
+    }
+
+    public boolean usesHeuristic() {
+        return heuristic;
+    }
+
+    @Override
+    public Path solve(Maze maze, Point start, Point end) {
+        if (maze.isWeighted()) return weighted.solve(maze, start, end);
+        return CorridorGraph.of(maze).shortestPath(maze, start, end, heuristic, workspace);
+    }
+}
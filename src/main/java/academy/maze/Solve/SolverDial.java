@@ -0,0 +1,58 @@
+package academy.maze.Solve;
+
+import academy.maze.HelpAlgorithm.BucketQueue;
+import academy.maze.HelpAlgorithm.BuilderPath;
+import academy.maze.dto.BitGrid;
+import academy.maze.dto.CostGrid;
+import academy.maze.dto.Maze;
+import academy.maze.dto.Path;
+import academy.maze.dto.Point;
+
+/**
+ * Алгоритм Дайала: Дейкстра с циклической очередью корзин вместо двоичной кучи. Каждая операция очереди стоит O(1),
+ * путь совпадает по стоимости с {@link SolverDijkstra}. В лабиринте с покрытиями корзин столько, сколько стоит самая
+ * дорогая ячейка, плюс одна. Как и в {@link SolverAStar}, массивы лежат в {@link SolverWorkspace}, экземпляр не
+ * потокобезопасен.
+ */
+public class SolverDial implements Solver {
+    private static final int[] DR = {1, -1, 0, 0};
+    private static final int[] DC = {0, 0, 1, -1};
+
+    private final SolverWorkspace workspace = new SolverWorkspace();
+
+    @Override
+    public Path solve(Maze maze, Point start, Point end) {
+        int rows = maze.x(), cols = maze.y();
+        BitGrid grid = maze.grid();
+        CostGrid costs = maze.costs();
+        workspace.begin(SolverAStar.cellCount(rows, cols));
+        BucketQueue queue = workspace.buckets(costs != null ? costs.maxCost() : 1);
+
+        int startIndex = start.x() * cols + start.y();
+        int endIndex = end.x() * cols + end.y();
+        workspace.reach(startIndex, 0, -1);
+        queue.push(startIndex, 0);
+
+        while (!queue.isEmpty()) {
+            int current = queue.poll();
+            workspace.settle(current);
+            if (current == endIndex) return BuilderPath.buildPath(workspace.parents(), cols, startIndex, endIndex);
+
+            int r = current / cols, c = current % cols;
+            int distance = workspace.distance(current);
+            for (int d = 0; d < DR.length; d++) {
+                int nr = r + DR[d], nc = c + DC[d];
+                if (nr < 0 || nr >= rows || nc < 0 || nc >= cols) continue;
+                int next = current + DR[d] * cols + DC[d];
+                if (workspace.isSettled(next) || grid.isWall(nr, nc)) continue;
+
+                int nd = distance + (costs != null ? costs.cost(next) : 1);
+                if (nd < workspace.distance(next)) {
+                    workspace.reach(next, nd, current);
+                    queue.push(next, nd);
+                }
+            }
+        }
+        return Path.empty();
+    }
+}
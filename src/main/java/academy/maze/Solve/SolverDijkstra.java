@@ -1,65 +1,57 @@
 package academy.maze.Solve;
 
-import academy.maze.HelpAlgorithm.Bounds;
 import academy.maze.HelpAlgorithm.BuilderPath;
-import academy.maze.dto.CellType;
+import academy.maze.HelpAlgorithm.IndexedMinHeap;
+import academy.maze.dto.BitGrid;
+import academy.maze.dto.CostGrid;
 import academy.maze.dto.Maze;
 import academy.maze.dto.Path;
 import academy.maze.dto.Point;
-import java.util.Arrays;
-import java.util.PriorityQueue;
 
+/**
+ * Алгоритм Дейкстры на куче {@link IndexedMinHeap} с уменьшением ключа. Шаг стоит столько, сколько ячейка, на которую
+ * он ведёт ({@link CostGrid}), в лабиринте без покрытий — 1. Массивы лежат в {@link SolverWorkspace}, так что
+ * повторные вызовы не выделяют память, а экземпляр не потокобезопасен.
+ */
 public class SolverDijkstra implements Solver {
+    private static final int[] DR = {1, -1, 0, 0};
+    private static final int[] DC = {0, 0, 1, -1};
+
+    private final SolverWorkspace workspace = new SolverWorkspace();
 
     @Override
     public Path solve(Maze maze, Point start, Point end) {
-        int rows = maze.x();
-        int cols = maze.y();
-        CellType[][] grid = maze.cells();
-
-        int[][] distance = new int[rows][cols];
-        Point[][] parent = new Point[rows][cols];
-        boolean[][] visited = new boolean[rows][cols];
-
-        for (int i = 0; i < rows; i++) {
-            Arrays.fill(distance[i], Integer.MAX_VALUE);
-        }
-        PriorityQueue<PointDistance> pq = new PriorityQueue<>();
-        distance[start.x()][start.y()] = 0;
-        pq.add(new PointDistance(start, 0));
-
-        int[][] dir = {{1, 0}, {-1, 0}, {0, 1}, {0, -1}};
-
-        while (!pq.isEmpty()) {
-            PointDistance cur = pq.poll();
-            Point p = cur.point();
-
-            int x = p.x(), y = p.y();
-            if (visited[x][y]) continue;
-            visited[x][y] = true;
-
-            if (x == end.x() && y == end.y()) return BuilderPath.buildPath(parent, start, end);
-
-            for (int[] d : dir) {
-                int newX = x + d[0], newY = y + d[1];
-                if (!Bounds.inBounds(newX, newY, rows, cols)) continue;
-                if (grid[newX][newY] == CellType.WALL) continue;
-
-                int nd = distance[x][y] + 1;
-                if (nd < distance[newX][newY]) {
-                    distance[newX][newY] = nd;
-                    parent[newX][newY] = p;
-                    pq.add(new PointDistance(new Point(newX, newY), nd));
+        int rows = maze.x(), cols = maze.y();
+        BitGrid grid = maze.grid();
+        CostGrid costs = maze.costs();
+        workspace.begin(SolverAStar.cellCount(rows, cols));
+        IndexedMinHeap queue = workspace.heap();
+
+        int startIndex = start.x() * cols + start.y();
+        int endIndex = end.x() * cols + end.y();
+        workspace.reach(startIndex, 0, -1);
+        queue.push(startIndex, 0);
+
+        while (!queue.isEmpty()) {
+            int current = queue.poll();
+            workspace.settle(current);
+            if (current == endIndex) return BuilderPath.buildPath(workspace.parents(), cols, startIndex, endIndex);
+
+            int r = current / cols, c = current % cols;
+            int distance = workspace.distance(current);
+            for (int d = 0; d < DR.length; d++) {
+                int nr = r + DR[d], nc = c + DC[d];
+                if (nr < 0 || nr >= rows || nc < 0 || nc >= cols) continue;
+                int next = current + DR[d] * cols + DC[d];
+                if (workspace.isSettled(next) || grid.isWall(nr, nc)) continue;
+
+                int nd = distance + (costs != null ? costs.cost(next) : 1);
+                if (nd < workspace.distance(next)) {
+                    workspace.reach(next, nd, current);
+                    queue.push(next, nd);
                 }
             }
         }
-        return new Path(new Point[0]);
-    }
-
-    private record PointDistance(Point point, int distance) implements Comparable<PointDistance> {
-        @Override
-        public int compareTo(PointDistance o) {
-            return Integer.compare(this.distance, o.distance);
-        }
+        return Path.empty();
     }
 }
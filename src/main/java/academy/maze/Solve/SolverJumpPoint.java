@@ -0,0 +1,139 @@
+package academy.maze.Solve;
+
+import academy.maze.HelpAlgorithm.IndexedMinHeap;
+import academy.maze.dto.BitGrid;
+import academy.maze.dto.Maze;
+import academy.maze.dto.Path;
+import academy.maze.dto.Point;
+
+/**
+ * Jump Point Search для сетки с ходами по четырём направлениям. A* кладёт в кучу не каждую ячейку, а только точки
+ * прыжка: горизонтальный проход останавливается у вынужденного соседа (свободная ячейка сбоку, за которой позади
+ * стена), вертикальный — ещё и там, где горизонтальный проход из ячейки находит точку прыжка. В открытых комнатах куча
+ * получает единицы ячеек вместо всей комнаты. Между соседними точками прыжка путь прямой, поэтому в конце он
+ * разворачивается в полный список ячеек.
+ *
+ * <p>Отсечение точек прыжка верно только при одинаковой стоимости шагов, поэтому лабиринт с покрытиями решается
+ * {@link SolverAStar}. Массивы поиска лежат в {@link SolverWorkspace}, экземпляр не потокобезопасен.
+ */
+public class SolverJumpPoint implements Solver {
+    private final Solver weighted = new SolverAStar();
+    private final SolverWorkspace workspace = new SolverWorkspace();
+    private BitGrid grid;
+    private int rows;
+    private int cols;
+    private int endRow;
+    private int endCol;
+    private int expansions;
+
+    @Override
+    public Path solve(Maze maze, Point start, Point end) {
+        if (maze.isWeighted()) return weighted.solve(maze, start, end);
+        grid = maze.grid();
+        rows = maze.x();
+        cols = maze.y();
+        endRow = end.x();
+        endCol = end.y();
+        expansions = 0;
+        workspace.begin(SolverAStar.cellCount(rows, cols));
+        IndexedMinHeap open = workspace.heap();
+
+        int startIndex = start.x() * cols + start.y();
+        int endIndex = end.x() * cols + end.y();
+        if (!isFree(start.x(), start.y()) || !isFree(endRow, endCol)) return Path.empty();
+        workspace.reach(startIndex, 0, -1);
+        open.push(startIndex, estimate(startIndex));
+
+        while (!open.isEmpty()) {
+            int current = open.poll();
+            workspace.settle(current);
+            expansions++;
+            if (current == endIndex) return unwind(startIndex, endIndex);
+
+            int r = current / cols, c = current % cols;
+            int from = workspace.parents()[current];
+            int dr = 0, dc = 0;
+            if (from >= 0) {
+                dr = Integer.signum(r - from / cols);
+                dc = Integer.signum(c - from % cols);
+            }
+            if (dr == 0 && dc == 0) {
+                relax(open, current, r, c, 1, 0);
+                relax(open, current, r, c, -1, 0);
+                relax(open, current, r, c, 0, 1);
+                relax(open, current, r, c, 0, -1);
+            } else if (dr == 0) {
+                relax(open, current, r, c, 0, dc);
+                relax(open, current, r, c, 1, 0);
+                relax(open, current, r, c, -1, 0);
+            } else {
+                relax(open, current, r, c, dr, 0);
+                relax(open, current, r, c, 0, 1);
+                relax(open, current, r, c, 0, -1);
+            }
+        }
+        return Path.empty();
+    }
+
+    /** Сколько точек прыжка извлёк из кучи последний поиск. */
+    int expansions() {
+        return expansions;
+    }
+
+    private void relax(IndexedMinHeap open, int current, int r, int c, int dr, int dc) {
+        int next = dr == 0 ? jumpHorizontal(r, c, dc) : jumpVertical(r, c, dr);
+        if (next < 0 || workspace.isSettled(next)) return;
+        int tentative = workspace.distance(current) + Math.abs(next / cols - r) + Math.abs(next % cols - c);
+        if (tentative < workspace.distance(next)) {
+            workspace.reach(next, tentative, current);
+            open.push(next, tentative + estimate(next));
+        }
+    }
+
+    /** Точка прыжка при движении из {@code (r, c)} по строке или {@code -1}, если проход упёрся в стену. */
+    private int jumpHorizontal(int r, int c, int dc) {
+        for (int nc = c + dc; isFree(r, nc); nc += dc) {
+            if (r == endRow && nc == endCol) return r * cols + nc;
+            if (isFree(r - 1, nc) && !isFree(r - 1, nc - dc) || isFree(r + 1, nc) && !isFree(r + 1, nc - dc)) {
+                return r * cols + nc;
+            }
+        }
+        return -1;
+    }
+
+    /** Точка прыжка при движении из {@code (r, c)} по столбцу или {@code -1}, если проход упёрся в стену. */
+    private int jumpVertical(int r, int c, int dr) {
+        for (int nr = r + dr; isFree(nr, c); nr += dr) {
+            if (nr == endRow && c == endCol) return nr * cols + c;
+            if (isFree(nr, c - 1) && !isFree(nr - dr, c - 1) || isFree(nr, c + 1) && !isFree(nr - dr, c + 1)) {
+                return nr * cols + c;
+            }
+            if (jumpHorizontal(nr, c, 1) >= 0 || jumpHorizontal(nr, c, -1) >= 0) return nr * cols + c;
+        }
+        return -1;
+    }
+
+    /** Разворачивает цепочку точек прыжка в путь по всем ячейкам: соседние точки лежат на одной прямой. */
+    private Path unwind(int startIndex, int endIndex) {
+        int[] parents = workspace.parents();
+        int[] cells = new int[workspace.distance(endIndex) + 1];
+        int i = cells.length - 1;
+        for (int cell = endIndex; cell != startIndex; cell = parents[cell]) {
+            int from = parents[cell];
+            int step = from / cols == cell / cols ? Integer.signum(from - cell) : Integer.signum(from - cell) * cols;
+            for (int c = cell; c != from; c += step) {
+                cells[i--] = c;
+            }
+        }
+        cells[i] = startIndex;
+        return Path.of(cells, cols);
+    }
+
+    private boolean isFree(int r, int c) {
+        return r >= 0 && r < rows && c >= 0 && c < cols && grid.isPath(r, c);
+    }
+
+    private int estimate(int cell) {
+        return Math.abs(cell / cols - endRow) + Math.abs(cell % cols - endCol);
+    }
+}
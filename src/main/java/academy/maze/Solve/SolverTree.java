@@ -0,0 +1,20 @@
+package academy.maze.Solve;
+
+import academy.maze.dto.Maze;
+import academy.maze.dto.Path;
+import academy.maze.dto.Point;
+
+/**
+ * Решатель для идеальных лабиринтов: путь берётся из {@link TreePathOracle} без поиска. Если в лабиринте есть циклы
+ * или несвязные ячейки, запросы уходят в {@link SolverAStar}. Оракул строится один раз на лабиринт и берётся из общего
+ * кэша. Экземпляр не потокобезопасен.
+ */
+public class SolverTree implements Solver {
+    private final Solver fallback = new SolverAStar();
+
+    @Override
+    public Path solve(Maze maze, Point start, Point end) {
+        TreePathOracle oracle = TreePathOracle.of(maze);
+        return oracle.isTree() ? oracle.path(start, end) : fallback.solve(maze, start, end);
+    }
+}
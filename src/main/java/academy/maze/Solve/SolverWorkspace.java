@@ -0,0 +1,84 @@
+package academy.maze.Solve;
+
+import academy.maze.HelpAlgorithm.BucketQueue;
+import academy.maze.HelpAlgorithm.IndexedMinHeap;
+import java.util.Arrays;
+
+/**
+ * Рабочие массивы поиска, которые живут между вызовами решателя. Каждый поиск получает свой номер (эпоху), и ячейка
+ * помечается им при первом касании: расстояние и родитель действительны, только если метка ячейки относится к текущей
+ * эпохе. Поэтому новый поиск ничего не очищает и стоит пропорционально числу затронутых ячеек, а массивы выделяются
+ * заново только при росте лабиринта. Экземпляр не потокобезопасен: у каждого решателя или потока свой.
+ */
+public final class SolverWorkspace {
+    private int[] stamp = new int[0];
+    private int[] distance = new int[0];
+    private int[] parent = new int[0];
+    private IndexedMinHeap heap;
+    private BucketQueue buckets;
+    private int bucketWeight = -1;
+    // метка epoch — ячейка достигнута, epoch + 1 — расстояние до неё окончательное
+    private int epoch;
+
+    /** Начинает новый поиск по лабиринту из {@code size} ячеек. */
+    public void begin(int size) {
+        if (stamp.length < size) {
+            stamp = new int[size];
+            distance = new int[size];
+            parent = new int[size];
+            heap = null;
+            buckets = null;
+            epoch = 0;
+        }
+        if (epoch >= Integer.MAX_VALUE - 2) {
+            Arrays.fill(stamp, 0);
+            epoch = 0;
+        }
+        epoch += 2;
+        if (heap != null) heap.clear();
+        if (buckets != null) buckets.clear();
+    }
+
+    /** Расстояние до ячейки в текущем поиске или {@link Integer#MAX_VALUE}, если ячейка ещё не достигнута. */
+    public int distance(int cell) {
+        return stamp[cell] >= epoch ? distance[cell] : Integer.MAX_VALUE;
+    }
+
+    public boolean isSettled(int cell) {
+        return stamp[cell] == epoch + 1;
+    }
+
+    /** Запоминает расстояние до ячейки и её родителя ({@code -1} у стартовой ячейки). */
+    public void reach(int cell, int dist, int from) {
+        stamp[cell] = epoch;
+        distance[cell] = dist;
+        parent[cell] = from;
+    }
+
+    public void settle(int cell) {
+        stamp[cell] = epoch + 1;
+    }
+
+    /**
+     * Массив родителей для {@link academy.maze.HelpAlgorithm.BuilderPath}. Действителен только для ячеек, достигнутых в
+     * текущем поиске.
+     */
+    public int[] parents() {
+        return parent;
+    }
+
+    /** Пустая куча на все ячейки лабиринта. */
+    public IndexedMinHeap heap() {
+        if (heap == null) heap = new IndexedMinHeap(stamp.length);
+        return heap;
+    }
+
+    /** Пустая очередь корзин на все ячейки лабиринта для весов от 0 до {@code maxWeight}. */
+    public BucketQueue buckets(int maxWeight) {
+        if (buckets == null || bucketWeight != maxWeight) {
+            buckets = new BucketQueue(stamp.length, maxWeight);
+            bucketWeight = maxWeight;
+        }
+        return buckets;
+    }
+}
@@ -0,0 +1,161 @@
+package academy.maze.Solve;
+
+import academy.maze.dto.BitGrid;
+import academy.maze.dto.Maze;
+import academy.maze.dto.Path;
+import academy.maze.dto.Point;
+import java.util.Arrays;
+
+/**
+ * Ответы на запросы путей в идеальном лабиринте. Свободные ячейки такого лабиринта образуют дерево, и путь между двумя
+ * ячейками единственный: он идёт через их наименьшего общего предка. Дерево подвешивается за первую свободную ячейку
+ * одним обходом в ширину, который заодно проверяет, что циклов нет и все ячейки связаны.
+ *
+ * <p>Для поиска предка у каждой ячейки кроме родителя и глубины хранится один указатель-прыжок (косо-двоичная схема
+ * Майерса): глубина цели прыжка зависит только от глубины ячейки, поэтому подъём на заданную глубину и поиск общего
+ * предка занимают {@code O(log n)}, а памяти нужно три {@code int} на ячейку. Длина пути считается за
+ * {@code O(log n)}, сам путь — за его длину.
+ */
+public final class TreePathOracle {
+    private static final GridCache<TreePathOracle> CACHE = new GridCache<>(TreePathOracle::new);
+    private static final int[] DR = {1, -1, 0, 0};
+    private static final int[] DC = {0, 0, 1, -1};
+
+    private final int rows;
+    private final int cols;
+    private int[] parent;
+    private int[] depth;
+    private int[] jump;
+
+    private TreePathOracle(Maze maze) {
+        BitGrid grid = maze.grid();
+        rows = maze.x();
+        cols = maze.y();
+        int size = SolverAStar.cellCount(rows, cols);
+        int root = 0;
+        while (root < size && !grid.isPath(root)) {
+            root++;
+        }
+        if (root == size) return;
+
+        int[] parent = new int[size];
+        int[] depth = new int[size];
+        int[] jump = new int[size];
+        // очередь обхода; ячейка достигнута, если у неё есть родитель, у корня родитель — он сам
+        int[] queue = new int[size];
+        Arrays.fill(parent, -1);
+        parent[root] = root;
+        jump[root] = root;
+        int head = 0, tail = 0;
+        queue[tail++] = root;
+        while (head < tail) {
+            int current = queue[head++];
+            int r = current / cols, c = current % cols;
+            for (int d = 0; d < DR.length; d++) {
+                int nr = r + DR[d], nc = c + DC[d];
+                if (nr < 0 || nr >= rows || nc < 0 || nc >= cols || grid.isWall(nr, nc)) continue;
+                int next = current + DR[d] * cols + DC[d];
+                if (next == parent[current]) continue;
+                if (parent[next] >= 0) return;
+
+                parent[next] = current;
+                depth[next] = depth[current] + 1;
+                int up = jump[current];
+                jump[next] = depth[current] - depth[up] == depth[up] - depth[jump[up]] ? jump[up] : current;
+                queue[tail++] = next;
+            }
+        }
+        for (int cell = root + 1; cell < size; cell++) {
+            if (parent[cell] < 0 && grid.isPath(cell)) return;
+        }
+        this.parent = parent;
+        this.depth = depth;
+        this.jump = jump;
+    }
+
+    /** Оракул для лабиринта: из кэша, если он уже строился для той же сетки, иначе новый. */
+    public static TreePathOracle of(Maze maze) {
+        return CACHE.get(maze);
+    }
+
+    /** {@code true}, если свободные ячейки лабиринта образуют одно дерево и запросы к оракулу допустимы. */
+    public boolean isTree() {
+        return parent != null;
+    }
+
+    /**
+     * Число шагов между точками за {@code O(log n)}.
+     *
+     * @return длина пути или {@code -1}, если одна из точек вне лабиринта или в стене.
+     * @throws IllegalStateException если лабиринт не дерево.
+     */
+    public int distance(Point from, Point to) {
+        requireTree();
+        if (!isPathCell(from) || !isPathCell(to)) return -1;
+        int a = index(from), b = index(to);
+        return depth[a] + depth[b] - 2 * depth[ancestor(a, b)];
+    }
+
+    /**
+     * Единственный путь между точками за его длину.
+     *
+     * @return путь или путь длины 0, если одна из точек вне лабиринта или в стене.
+     * @throws IllegalStateException если лабиринт не дерево.
+     */
+    public Path path(Point from, Point to) {
+        requireTree();
+        if (!isPathCell(from) || !isPathCell(to)) return Path.empty();
+        int a = index(from), b = index(to);
+        int top = ancestor(a, b);
+        int up = depth[a] - depth[top], down = depth[b] - depth[top];
+        int[] cells = new int[up + down + 1];
+        for (int i = 0, cell = a; i <= up; i++, cell = parent[cell]) {
+            cells[i] = cell;
+        }
+        for (int i = up + down, cell = b; i > up; i--, cell = parent[cell]) {
+            cells[i] = cell;
+        }
+        return Path.of(cells, cols);
+    }
+
+    /** Наименьший общий предок: сначала подъём на одну глубину, затем одновременный подъём по прыжкам. */
+    private int ancestor(int a, int b) {
+        if (depth[a] > depth[b]) {
+            a = lift(a, depth[b]);
+        } else {
+            b = lift(b, depth[a]);
+        }
+        while (a != b) {
+            if (jump[a] != jump[b]) {
+                a = jump[a];
+                b = jump[b];
+            } else {
+                a = parent[a];
+                b = parent[b];
+            }
+        }
+        return a;
+    }
+
+    private int lift(int cell, int targetDepth) {
+        while (depth[cell] > targetDepth) {
+            cell = depth[jump[cell]] >= targetDepth ? jump[cell] : parent[cell];
+        }
+        return cell;
+    }
+
+    private void requireTree() {
+        if (!isTree()) {
+            throw new IllegalStateException("Maze is not a tree: it has cycles or disconnected cells");
+        }
+    }
+
+    /** В дереве родитель есть ровно у свободных ячеек, поэтому сетка для проверки не нужна. */
+    private boolean isPathCell(Point point) {
+        return point.x() >= 0 && point.x() < rows && point.y() >= 0 && point.y() < cols && parent[index(point)] >= 0;
+    }
+
+    private int index(Point point) {
+        return point.x() * cols + point.y();
+    }
+}
@@ -1,9 +1,7 @@
 package academy.maze.View;
 
-import academy.maze.dto.CellType;
 import academy.maze.dto.Maze;
 import academy.maze.dto.Path;
-import academy.maze.dto.Point;
 import java.awt.Color;
 import java.awt.Graphics;
 import javax.swing.JPanel;
@@ -27,9 +25,7 @@ public class MazePanel extends JPanel {
 
         for (int r = 0; r < rows; r++) {
             for (int c = 0; c < cols; c++) {
-                CellType type = maze.cells()[r][c];
-
-                if (type == CellType.WALL) {
+                if (maze.isWall(r, c)) {
                     g.setColor(Color.BLACK);
                 } else {
                     g.setColor(Color.WHITE);
@@ -44,9 +40,9 @@ public class MazePanel extends JPanel {
         }
         if (path != null) {
             g.setColor(Color.GREEN);
-            for (Point p : path.points()) {
-                int px = p.y() * cellSize;
-                int py = p.x() * cellSize;
+            for (int i = 0; i < path.length(); i++) {
+                int px = path.col(i) * cellSize;
+                int py = path.row(i) * cellSize;
                 g.fillOval(px, py, cellSize, cellSize);
             }
         }
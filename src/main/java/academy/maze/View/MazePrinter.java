@@ -1,16 +1,16 @@
 package academy.maze.View;
 
-import academy.maze.dto.CellType;
+import academy.maze.dto.BitGrid;
 import academy.maze.dto.Maze;
 import academy.maze.dto.Path;
-import academy.maze.dto.Point;
+import java.util.BitSet;
 
 public class MazePrinter {
     public static void printMazeNotPath(Maze maze) {
-        CellType[][] cells = maze.cells();
+        BitGrid cells = maze.grid();
         for (int i = 0; i < maze.x(); i++) {
             for (int j = 0; j < maze.y(); j++) {
-                if (cells[i][j] == CellType.WALL) System.out.print("#");
+                if (cells.isWall(i, j)) System.out.print("#");
                 else System.out.print(" ");
             }
             System.out.println();
@@ -18,24 +18,20 @@ public class MazePrinter {
     }
 
     public static void printMazePath(Maze maze, Path path) {
-        CellType[][] cells = maze.cells();
-        Point[] points = path.points();
+        BitGrid cells = maze.grid();
+        BitSet onPath = new BitSet();
+        for (int k = 0; k < path.length(); k++) {
+            if (path.col(k) < maze.y()) onPath.set(path.row(k) * maze.y() + path.col(k));
+        }
 
         for (int i = 0; i < maze.x(); i++) {
             for (int j = 0; j < maze.y(); j++) {
-                if (cells[i][j] == CellType.WALL) {
+                if (cells.isWall(i, j)) {
                     System.out.print("#");
                     continue;
                 }
 
-                boolean isPathPoint = false;
-                for (Point p : points) {
-                    if (p.x() == i && p.y() == j) {
-                        isPathPoint = true;
-                        break;
-                    }
-                }
-                if (isPathPoint) System.out.print(".");
+                if (onPath.get(i * maze.y() + j)) System.out.print(".");
                 else System.out.print(" ");
             }
             System.out.println();
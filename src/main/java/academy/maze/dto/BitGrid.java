@@ -0,0 +1,203 @@
+package academy.maze.dto;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.Arrays;
+
+/**
+ * Компактная сетка лабиринта: один бит на ячейку, 1 — свободная ячейка, 0 — стена. Все строки хранятся подряд в одном
+ * массиве {@code long[]}, поэтому лабиринт на миллиард ячеек занимает около 120 МБ.
+ */
+public final class BitGrid {
+    private static final int MAX_WORDS = Integer.MAX_VALUE - 8;
+    private static final VarHandle WORDS = MethodHandles.arrayElementVarHandle(long[].class);
+
+    private final int rows;
+    private final int cols;
+    private final long[] bits;
+    private boolean frozen;
+
+    /**
+     * Создаёт сетку, целиком заполненную стенами.
+     *
+     * @param rows количество строк.
+     * @param cols количество столбцов.
+     * @throws IllegalArgumentException если размеры отрицательны или сетка не помещается в массив.
+     */
+    public BitGrid(int rows, int cols) {
+        if (rows < 0 || cols < 0) {
+            throw new IllegalArgumentException("Grid dimensions must be non-negative: " + rows + "x" + cols);
+        }
+        long words = ((long) rows * cols + 63) >>> 6;
+        if (words > MAX_WORDS) {
+            throw new IllegalArgumentException("Grid is too large: " + rows + "x" + cols);
+        }
+        this.rows = rows;
+        this.cols = cols;
+        this.bits = new long[(int) words];
+    }
+
+    private BitGrid(int rows, int cols, long[] bits) {
+        this.rows = rows;
+        this.cols = cols;
+        this.bits = bits;
+    }
+
+    public static BitGrid of(CellType[][] cells, int rows, int cols) {
+        BitGrid grid = new BitGrid(rows, cols);
+        for (int i = 0; i < rows; i++) {
+            for (int j = 0; j < cols; j++) {
+                if (cells[i][j] != CellType.WALL) {
+                    grid.setPath(i, j);
+                }
+            }
+        }
+        return grid;
+    }
+
+    public int rows() {
+        return rows;
+    }
+
+    public int cols() {
+        return cols;
+    }
+
+    public long size() {
+        return (long) rows * cols;
+    }
+
+    public boolean isPath(int row, int col) {
+        return isPath(index(row, col));
+    }
+
+    public boolean isWall(int row, int col) {
+        return !isPath(index(row, col));
+    }
+
+    /** Проверка ячейки по плоскому индексу {@code row * cols + col}. */
+    public boolean isPath(long index) {
+        return (bits[(int) (index >>> 6)] & (1L << index)) != 0;
+    }
+
+    public CellType get(int row, int col) {
+        return isPath(row, col) ? CellType.PATH : CellType.WALL;
+    }
+
+    public void set(int row, int col, CellType type) {
+        if (type == CellType.WALL) {
+            setWall(row, col);
+        } else {
+            setPath(row, col);
+        }
+    }
+
+    public void setPath(int row, int col) {
+        checkMutable();
+        long index = index(row, col);
+        bits[(int) (index >>> 6)] |= 1L << index;
+    }
+
+    /** Как {@link #setPath(int, int)}, но безопасно при записи соседних ячеек из разных потоков. */
+    public void setPathConcurrent(int row, int col) {
+        checkMutable();
+        long index = index(row, col);
+        WORDS.getAndBitwiseOr(bits, (int) (index >>> 6), 1L << index);
+    }
+
+    public void setWall(int row, int col) {
+        checkMutable();
+        long index = index(row, col);
+        bits[(int) (index >>> 6)] &= ~(1L << index);
+    }
+
+    /** Количество 64-битных слов, в которых хранятся ячейки. */
+    public int words() {
+        return bits.length;
+    }
+
+    /** Слово с ячейками {@code 64 * i .. 64 * i + 63} в порядке обхода по строкам, младший бит — первая ячейка. */
+    public long word(int i) {
+        return bits[i];
+    }
+
+    /** Записывает слово целиком, биты за пределами сетки отбрасываются. */
+    public void setWord(int i, long value) {
+        checkMutable();
+        int tail = (int) (size() & 63);
+        bits[i] = i == bits.length - 1 && tail > 0 ? value & ((1L << tail) - 1) : value;
+    }
+
+    /**
+     * Запрещает дальнейшие изменения: после этого сетку можно без синхронизации читать из многих потоков, если она
+     * передана им после вызова (например, через потокобезопасную коллекцию).
+     *
+     * @return эта же сетка.
+     */
+    public BitGrid freeze() {
+        frozen = true;
+        return this;
+    }
+
+    public boolean isFrozen() {
+        return frozen;
+    }
+
+    /** Изменяемая копия, в том числе у замороженной сетки. */
+    public BitGrid copy() {
+        return new BitGrid(rows, cols, bits.clone());
+    }
+
+    /**
+     * Копия сетки с другим числом строк: лишние строки отбрасываются, новые заполняются стенами.
+     *
+     * @param newRows количество строк новой сетки.
+     */
+    public BitGrid withRows(int newRows) {
+        BitGrid result = new BitGrid(newRows, cols);
+        long keep = Math.min(size(), result.size());
+        int fullWords = (int) (keep >>> 6);
+        System.arraycopy(bits, 0, result.bits, 0, fullWords);
+        int tail = (int) (keep & 63);
+        if (tail > 0) {
+            result.bits[fullWords] = bits[fullWords] & ((1L << tail) - 1);
+        }
+        return result;
+    }
+
+    /** Разворачивает сетку в двумерный массив. Нужен только для совместимости, на больших лабиринтах дорог. */
+    public CellType[][] toCells() {
+        CellType[][] cells = new CellType[rows][cols];
+        for (int i = 0; i < rows; i++) {
+            for (int j = 0; j < cols; j++) {
+                cells[i][j] = get(i, j);
+            }
+        }
+        return cells;
+    }
+
+    private void checkMutable() {
+        if (frozen) {
+            throw new IllegalStateException("Grid is frozen and cannot be modified");
+        }
+    }
+
+    private long index(int row, int col) {
+        return (long) row * cols + col;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof BitGrid other)) return false;
+        return rows == other.rows && cols == other.cols && Arrays.equals(bits, other.bits);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = Integer.hashCode(rows);
+        result = 31 * result + Integer.hashCode(cols);
+        result = 31 * result + Arrays.hashCode(bits);
+        return result;
+    }
+}
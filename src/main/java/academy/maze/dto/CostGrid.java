@@ -0,0 +1,119 @@
+package academy.maze.dto;
+
+import java.util.Arrays;
+
+/**
+ * Стоимости шагов по ячейкам лабиринта: один байт на ячейку в порядке обхода по строкам, как в {@link BitGrid}. Таблица
+ * хранится отдельно от сетки и есть только у лабиринтов с покрытиями, обычным лабиринтам она не нужна. Стоимость
+ * стены не используется и равна стоимости {@link Terrain#PATH}.
+ *
+ * <p>Границы {@link #minCost()} и {@link #maxCost()} обновляются при записи и только расширяются, поэтому после замены
+ * покрытия могут быть грубее точных, но всегда остаются верными оценками снизу и сверху.
+ */
+public final class CostGrid {
+    private final int rows;
+    private final int cols;
+    private final byte[] costs;
+    private int minCost;
+    private int maxCost;
+    private boolean frozen;
+
+    /**
+     * Создаёт таблицу, целиком заполненную {@link Terrain#PATH}.
+     *
+     * @throws IllegalArgumentException если размеры отрицательны или таблица не помещается в массив.
+     */
+    public CostGrid(int rows, int cols) {
+        if (rows < 0 || cols < 0) {
+            throw new IllegalArgumentException("Grid dimensions must be non-negative: " + rows + "x" + cols);
+        }
+        long size = (long) rows * cols;
+        if (size > Integer.MAX_VALUE - 8) {
+            throw new IllegalArgumentException("Cost grid is too large: " + rows + "x" + cols);
+        }
+        this.rows = rows;
+        this.cols = cols;
+        this.costs = new byte[(int) size];
+        Arrays.fill(costs, (byte) Terrain.PATH.cost());
+        this.minCost = Terrain.PATH.cost();
+        this.maxCost = Terrain.PATH.cost();
+    }
+
+    public int rows() {
+        return rows;
+    }
+
+    public int cols() {
+        return cols;
+    }
+
+    /** Стоимость шага на ячейку с плоским индексом {@code row * cols + col}. */
+    public int cost(int index) {
+        return costs[index] & 0xFF;
+    }
+
+    public int cost(int row, int col) {
+        return cost(row * cols + col);
+    }
+
+    public Terrain terrain(int row, int col) {
+        return Terrain.ofCost(cost(row, col));
+    }
+
+    public void set(int row, int col, Terrain terrain) {
+        set(row * cols + col, terrain);
+    }
+
+    public void set(int index, Terrain terrain) {
+        if (frozen) {
+            throw new IllegalStateException("Cost grid is frozen and cannot be modified");
+        }
+        costs[index] = (byte) terrain.cost();
+        minCost = Math.min(minCost, terrain.cost());
+        maxCost = Math.max(maxCost, terrain.cost());
+    }
+
+    /** Не больше стоимости любой ячейки. */
+    public int minCost() {
+        return minCost;
+    }
+
+    /** Не меньше стоимости любой ячейки. */
+    public int maxCost() {
+        return maxCost;
+    }
+
+    /** Запрещает дальнейшие изменения, как {@link BitGrid#freeze()}. */
+    public CostGrid freeze() {
+        frozen = true;
+        return this;
+    }
+
+    public boolean isFrozen() {
+        return frozen;
+    }
+
+    /** Копия таблицы с другим числом строк: лишние строки отбрасываются, новые заполняются {@link Terrain#PATH}. */
+    public CostGrid withRows(int newRows) {
+        CostGrid result = new CostGrid(newRows, cols);
+        System.arraycopy(costs, 0, result.costs, 0, Math.min(costs.length, result.costs.length));
+        result.minCost = Math.min(result.minCost, minCost);
+        result.maxCost = Math.max(result.maxCost, maxCost);
+        return result;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof CostGrid other)) return false;
+        return rows == other.rows && cols == other.cols && Arrays.equals(costs, other.costs);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = Integer.hashCode(rows);
+        result = 31 * result + Integer.hashCode(cols);
+        result = 31 * result + Arrays.hashCode(costs);
+        return result;
+    }
+}
@@ -3,6 +3,79 @@ package academy.maze.dto;
 /**
  * Лабиринт.
  *
- * @param cells Массив ячеек лабиринта.
+ * @param grid битовая сетка ячеек лабиринта.
+ * @param x количество строк.
+ * @param y количество столбцов.
+ * @param costs стоимости шагов по ячейкам или {@code null}, если все шаги стоят одинаково.
  */
-public record Maze(CellType[][] cells, int x, int y) {}
+public record Maze(BitGrid grid, int x, int y, CostGrid costs) {
+
+    public Maze {
+        if (grid.rows() != x || grid.cols() != y) {
+            throw new IllegalArgumentException("Maze dimensions " + x + "x" + y + " do not match grid "
+                    + grid.rows() + "x" + grid.cols());
+        }
+        if (costs != null && (costs.rows() != x || costs.cols() != y)) {
+            throw new IllegalArgumentException("Maze dimensions " + x + "x" + y + " do not match costs "
+                    + costs.rows() + "x" + costs.cols());
+        }
+    }
+
+    public Maze(BitGrid grid, int x, int y) {
+        this(grid, x, y, null);
+    }
+
+    public Maze(BitGrid grid, CostGrid costs) {
+        this(grid, grid.rows(), grid.cols(), costs);
+    }
+
+    public Maze(CellType[][] cells, int x, int y) {
+        this(BitGrid.of(cells, x, y), x, y);
+    }
+
+    public Maze(BitGrid grid) {
+        this(grid, grid.rows(), grid.cols());
+    }
+
+    /**
+     * Замораживает сетку и покрытия лабиринта, чтобы один экземпляр можно было отдать многим потокам: решатели только
+     * читают лабиринт, а запись после заморозки бросает {@link IllegalStateException}. Копирования нет, поэтому
+     * замораживать стоит только лабиринт, который больше никто не собирается менять.
+     *
+     * @return этот же лабиринт.
+     */
+    public Maze freeze() {
+        grid.freeze();
+        if (costs != null) costs.freeze();
+        return this;
+    }
+
+    public boolean isFrozen() {
+        return grid.isFrozen() && (costs == null || costs.isFrozen());
+    }
+
+    public boolean isWeighted() {
+        return costs != null;
+    }
+
+    public boolean isPath(int row, int col) {
+        return grid.isPath(row, col);
+    }
+
+    public boolean isWall(int row, int col) {
+        return grid.isWall(row, col);
+    }
+
+    public CellType cell(int row, int col) {
+        return grid.get(row, col);
+    }
+
+    /**
+     * Копия ячеек лабиринта в виде двумерного массива.
+     *
+     * @return новый массив, изменения в нём не влияют на лабиринт.
+     */
+    public CellType[][] cells() {
+        return grid.toCells();
+    }
+}
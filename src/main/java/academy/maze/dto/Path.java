@@ -1,9 +1,143 @@
 package academy.maze.dto;
 
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
 /**
  * Путь в лабиринте. Точки в лабиринте находятся в порядке следования. Первой точкой является стартовая, последней —
  * финишная.
  *
- * @param points координаты точек пути.
+ * <p>Точки хранятся одним массивом индексов {@code row * cols + col}: путь из 100 тысяч шагов занимает 400 КБ вместо
+ * сотни тысяч объектов {@link Point}. Точки создаются только по запросу через {@link #point(int)}, итератор или
+ * {@link #points()}; обход без объектов — через {@link #row(int)} и {@link #col(int)}.
  */
-public record Path(Point[] points) {}
+public final class Path implements Iterable<Point> {
+    private static final Path EMPTY = new Path(new int[0], 1);
+
+    private final int[] cells;
+    private final int cols;
+
+    /**
+     * Путь из готовых точек. Ширина для индексов берётся по наибольшему столбцу, поэтому точки не обязаны лежать в
+     * каком-то конкретном лабиринте.
+     *
+     * @throws IllegalArgumentException если у точки отрицательная координата или индексы не помещаются в {@code int}.
+     */
+    public Path(Point[] points) {
+        int width = 1;
+        for (Point point : points) {
+            if (point.x() < 0 || point.y() < 0) {
+                throw new IllegalArgumentException("Path point has negative coordinates: " + point);
+            }
+            width = Math.max(width, point.y() + 1);
+        }
+        int[] cells = new int[points.length];
+        for (int i = 0; i < points.length; i++) {
+            long cell = (long) points[i].x() * width + points[i].y();
+            if (cell > Integer.MAX_VALUE) {
+                throw new IllegalArgumentException("Path point is too far: " + points[i]);
+            }
+            cells[i] = (int) cell;
+        }
+        this.cells = cells;
+        this.cols = width;
+    }
+
+    private Path(int[] cells, int cols) {
+        this.cells = cells;
+        this.cols = cols;
+    }
+
+    /**
+     * Путь по индексам ячеек {@code row * cols + col}. Массив не копируется и не должен меняться после вызова.
+     */
+    public static Path of(int[] cells, int cols) {
+        if (cols <= 0) {
+            throw new IllegalArgumentException("Path width must be positive: " + cols);
+        }
+        return new Path(cells, cols);
+    }
+
+    /** Путь длины 0, которым решатели сообщают, что пути нет. */
+    public static Path empty() {
+        return EMPTY;
+    }
+
+    /** Количество точек пути, на единицу больше числа шагов. */
+    public int length() {
+        return cells.length;
+    }
+
+    public boolean isEmpty() {
+        return cells.length == 0;
+    }
+
+    public int row(int i) {
+        return cells[i] / cols;
+    }
+
+    public int col(int i) {
+        return cells[i] % cols;
+    }
+
+    public Point point(int i) {
+        return new Point(row(i), col(i));
+    }
+
+    /** Все точки пути новым массивом. */
+    public Point[] points() {
+        Point[] points = new Point[cells.length];
+        for (int i = 0; i < points.length; i++) {
+            points[i] = point(i);
+        }
+        return points;
+    }
+
+    @Override
+    public Iterator<Point> iterator() {
+        return new Iterator<>() {
+            private int next;
+
+            @Override
+            public boolean hasNext() {
+                return next < cells.length;
+            }
+
+            @Override
+            public Point next() {
+                if (next == cells.length) throw new NoSuchElementException();
+                return point(next++);
+            }
+        };
+    }
+
+    /** Пути равны, если совпадают последовательности точек. */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof Path other) || other.cells.length != cells.length) return false;
+        for (int i = 0; i < cells.length; i++) {
+            if (row(i) != other.row(i) || col(i) != other.col(i)) return false;
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        int hash = 1;
+        for (int i = 0; i < cells.length; i++) {
+            hash = 31 * (31 * hash + row(i)) + col(i);
+        }
+        return hash;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder result = new StringBuilder("Path[");
+        for (int i = 0; i < cells.length; i++) {
+            if (i > 0) result.append(", ");
+            result.append('(').append(row(i)).append(", ").append(col(i)).append(')');
+        }
+        return result.append(']').toString();
+    }
+}
@@ -6,4 +6,25 @@ package academy.maze.dto;
  * @param x
  * @param y
  */
-public record Point(int x, int y) {}
+public record Point(int x, int y) {
+
+    /**
+     * Разбирает точку вида {@code x,y}, пробелы вокруг чисел допускаются.
+     *
+     * @throws IllegalArgumentException если строка не в этом формате.
+     */
+    public static Point parse(String s) {
+        if (s == null) {
+            throw new IllegalArgumentException("Invalid point format: null, expected format: x,y");
+        }
+        String[] parts = s.split(",");
+        if (parts.length != 2) {
+            throw new IllegalArgumentException("Invalid point format: " + s + ", expected format: x,y");
+        }
+        try {
+            return new Point(Integer.parseInt(parts[0].trim()), Integer.parseInt(parts[1].trim()));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid point format: " + s + ", expected format: x,y", e);
+        }
+    }
+}
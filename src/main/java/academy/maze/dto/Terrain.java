@@ -0,0 +1,48 @@
+package academy.maze.dto;
+
+/**
+ * Покрытие свободной ячейки: символ в текстовом формате и стоимость шага на ячейку. Обычный проход стоит 2, чтобы
+ * дорога могла быть дешевле него при целых стоимостях.
+ */
+public enum Terrain {
+    ROAD('=', 1),
+    PATH(' ', 2),
+    SAND(':', 4),
+    SWAMP('~', 8);
+
+    private static final Terrain[] BY_COST = new Terrain[256];
+    private static final Terrain[] BY_SYMBOL = new Terrain[128];
+
+    static {
+        for (Terrain terrain : values()) {
+            BY_COST[terrain.cost] = terrain;
+            BY_SYMBOL[terrain.symbol] = terrain;
+        }
+    }
+
+    private final char symbol;
+    private final int cost;
+
+    Terrain(char symbol, int cost) {
+        this.symbol = symbol;
+        this.cost = cost;
+    }
+
+    public char symbol() {
+        return symbol;
+    }
+
+    public int cost() {
+        return cost;
+    }
+
+    /** Покрытие по символу текстового формата или {@code null}, если символ не обозначает покрытие. */
+    public static Terrain ofSymbol(int symbol) {
+        return symbol >= 0 && symbol < BY_SYMBOL.length ? BY_SYMBOL[symbol] : null;
+    }
+
+    /** Покрытие с заданной стоимостью или {@code null}, если такого нет. */
+    public static Terrain ofCost(int cost) {
+        return cost >= 0 && cost < BY_COST.length ? BY_COST[cost] : null;
+    }
+}
@@ -2,6 +2,10 @@ package academy;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import academy.maze.IO.MazeBinaryIO;
+import academy.maze.dto.Maze;
+import academy.maze.dto.Point;
+import academy.util.PerfectMazeCheck;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
@@ -56,4 +60,111 @@ class ApplicationCliTest {
                 + System.lineSeparator();
         assertThat(Files.readString(output)).isEqualTo(expected);
     }
+
+    @Test
+    void binaryFormatShouldRoundTripThroughGenerateAndSolve() throws IOException {
+        Path maze = Files.createTempFile("maze-generated", ".bin");
+        Path solution = Files.createTempFile("maze-solved", ".bin");
+
+        int generateExit = new CommandLine(new Application())
+                .execute(
+                        "generate",
+                        "--algorithm=dfs",
+                        "--width=5",
+                        "--height=5",
+                        "--format=bin",
+                        "--output=" + maze);
+        int solveExit = new CommandLine(new Application())
+                .execute(
+                        "solve",
+                        "--algorithm=astar",
+                        "--start=1,1",
+                        "--end=9,9",
+                        "--format=bin",
+                        "--file=" + maze,
+                        "--output=" + solution);
+
+        assertThat(generateExit).isEqualTo(0);
+        assertThat(solveExit).isEqualTo(0);
+        academy.maze.dto.Path path = MazeBinaryIO.loadPath(solution);
+        assertThat(path.points()[0]).isEqualTo(new Point(1, 1));
+        assertThat(path.points()[path.points().length - 1]).isEqualTo(new Point(9, 9));
+    }
+
+    @Test
+    void generateStreamShouldWriteBinaryMazeRowByRow() throws IOException {
+        Path maze = Files.createTempFile("maze-stream", ".bin");
+
+        int exitCode = new CommandLine(new Application())
+                .execute(
+                        "generate",
+                        "--algorithm=eller",
+                        "--width=30",
+                        "--height=70",
+                        "--format=bin",
+                        "--stream",
+                        "--output=" + maze);
+
+        assertThat(exitCode).isEqualTo(0);
+        Maze loaded = MazeBinaryIO.load(maze);
+        assertThat(loaded.x()).isEqualTo(61);
+        assertThat(loaded.y()).isEqualTo(141);
+        assertThat(PerfectMazeCheck.isPerfect(loaded)).isTrue();
+    }
+
+    @Test
+    void generateStreamShouldRejectNonStreamingAlgorithm() throws IOException {
+        Path maze = Files.createTempFile("maze-stream", ".txt");
+
+        int exitCode = new CommandLine(new Application())
+                .execute("generate", "--algorithm=dfs", "--width=3", "--height=3", "--stream", "--output=" + maze);
+
+        assertThat(exitCode).isNotEqualTo(0);
+    }
+
+    @Test
+    void generateWithSeedShouldBeReproducible() throws IOException {
+        Path first = Files.createTempFile("maze-seeded", ".txt");
+        Path second = Files.createTempFile("maze-seeded", ".txt");
+
+        for (Path output : new Path[] {first, second}) {
+            int exitCode = new CommandLine(new Application())
+                    .execute(
+                            "generate",
+                            "--algorithm=prim",
+                            "--width=20",
+                            "--height=20",
+                            "--seed=12345",
+                            "--output=" + output);
+            assertThat(exitCode).isEqualTo(0);
+        }
+
+        assertThat(Files.readString(first)).isEqualTo(Files.readString(second));
+    }
+
+    @Test
+    void solveBatchShouldAnswerQueriesInInputOrder() throws IOException {
+        Path input = Files.createTempFile("maze-input", ".txt");
+        Files.writeString(input, String.join(System.lineSeparator(), "#####", "#   #", "### #", "#   #", "#####"));
+        Path queries = Files.createTempFile("maze-queries", ".txt");
+        Files.writeString(queries, String.join(System.lineSeparator(), "1,1 3,3", "", "3,1 1,1", "0,0 1,1", "1,1 9"));
+        Path output = Files.createTempFile("maze-answers", ".txt");
+
+        int exitCode = new CommandLine(new Application())
+                .execute(
+                        "solve-batch",
+                        "--algorithm=astar",
+                        "--threads=2",
+                        "--file=" + input,
+                        "--queries=" + queries,
+                        "--output=" + output);
+
+        assertThat(exitCode).isEqualTo(0);
+        assertThat(Files.readAllLines(output))
+                .containsExactly(
+                        "1,1 3,3 4 1,1;1,2;1,3;2,3;3,3",
+                        "3,1 1,1 6 3,1;3,2;3,3;2,3;1,3;1,2;1,1",
+                        "error: Start or end point is inside a wall",
+                        "error: Invalid point format: 9, expected format: x,y");
+    }
 }
@@ -16,6 +16,21 @@ class ChooseGeneratorTest {
         assertThat(ChooseGenerator.choose("dfs")).isInstanceOf(GenerationDFS.class);
     }
 
+    @Test
+    void chooseShouldReturnParallelDfsGenerator() {
+        assertThat(ChooseGenerator.choose("parallel-dfs")).isInstanceOf(GenerationParallelDFS.class);
+    }
+
+    @Test
+    void chooseShouldReturnKruskalGenerator() {
+        assertThat(ChooseGenerator.choose("kruskal")).isInstanceOf(GenerationKruskal.class);
+    }
+
+    @Test
+    void chooseShouldReturnEllerGenerator() {
+        assertThat(ChooseGenerator.choose("eller")).isInstanceOf(GenerationEller.class);
+    }
+
     @Test
     void chooseShouldReturnNullForUnknownAlgorithm() {
         assertThat(ChooseGenerator.choose("unknown")).isNull();
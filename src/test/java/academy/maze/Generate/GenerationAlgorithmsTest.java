@@ -1,9 +1,17 @@
 package academy.maze.Generate;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
+import academy.maze.dto.BitGrid;
 import academy.maze.dto.CellType;
 import academy.maze.dto.Maze;
+import academy.util.PerfectMazeCheck;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.SplittableRandom;
 import org.junit.jupiter.api.Test;
 
 class GenerationAlgorithmsTest {
@@ -18,6 +26,28 @@ class GenerationAlgorithmsTest {
         assertThat(maze.cells()[1][1]).isEqualTo(CellType.PATH);
     }
 
+    @Test
+    void dfsGeneratorProducesPerfectMaze() {
+        Maze maze = new GenerationDFS().generate(40, 27);
+
+        assertBordersAreWalls(maze);
+        assertThat(PerfectMazeCheck.isPerfect(maze)).isTrue();
+    }
+
+    @Test
+    void dfsGeneratorMatchesReferenceLoopForSeed() {
+        int[][] sizes = {{1, 1}, {1, 17}, {17, 1}, {2, 3}, {40, 27}, {101, 64}, {300, 300}};
+        for (int[] size : sizes) {
+            for (long seed : new long[] {0, 1, 42, -7, 123_456_789}) {
+                Maze maze = new GenerationDFS().generate(size[0], size[1], seed);
+
+                assertThat(maze.grid())
+                        .as("%dx%d, seed %d", size[0], size[1], seed)
+                        .isEqualTo(referenceDfs(size[0], size[1], seed));
+            }
+        }
+    }
+
     @Test
     void primGeneratorProducesOddGridWithBorderWalls() {
         Maze maze = new GenerationPrima().generate(2, 2);
@@ -28,6 +58,114 @@ class GenerationAlgorithmsTest {
         assertThat(maze.cells()[1][1]).isEqualTo(CellType.PATH);
     }
 
+    @Test
+    void parallelDfsGeneratorProducesPerfectMazeAcrossTiles() {
+        Maze maze = new GenerationParallelDFS(4).generate(13, 9, 7);
+
+        assertThat(maze.x()).isEqualTo(27);
+        assertThat(maze.y()).isEqualTo(19);
+        assertBordersAreWalls(maze);
+        assertThat(PerfectMazeCheck.isPerfect(maze)).isTrue();
+    }
+
+    @Test
+    void parallelDfsGeneratorIsReproducibleForSeed() {
+        Maze first = new GenerationParallelDFS(8).generate(40, 30, 42);
+        Maze second = new GenerationParallelDFS(8).generate(40, 30, 42);
+
+        assertThat(first.grid()).isEqualTo(second.grid());
+    }
+
+    @Test
+    void kruskalGeneratorProducesPerfectMaze() {
+        Maze maze = new GenerationKruskal().generate(17, 11, 3);
+
+        assertThat(maze.x()).isEqualTo(35);
+        assertThat(maze.y()).isEqualTo(23);
+        assertBordersAreWalls(maze);
+        assertThat(PerfectMazeCheck.isPerfect(maze)).isTrue();
+    }
+
+    @Test
+    void kruskalGeneratorHandlesSingleRowAndColumn() {
+        assertThat(PerfectMazeCheck.isPerfect(new GenerationKruskal().generate(1, 9, 1))).isTrue();
+        assertThat(PerfectMazeCheck.isPerfect(new GenerationKruskal().generate(9, 1, 1))).isTrue();
+        assertThat(PerfectMazeCheck.isPerfect(new GenerationKruskal().generate(1, 1, 1))).isTrue();
+    }
+
+    @Test
+    void kruskalGeneratorRejectsDimensionsThatOverflow() {
+        GenerationKruskal generator = new GenerationKruskal();
+
+        assertThatThrownBy(() -> generator.generate(0, 5, 1)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> generator.generate(Integer.MAX_VALUE, 1, 1))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> generator.generate(50_000, 50_000, 1)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void ellerGeneratorProducesPerfectMaze() {
+        Maze maze = new GenerationEller().generate(23, 70, 11);
+
+        assertThat(maze.x()).isEqualTo(47);
+        assertThat(maze.y()).isEqualTo(141);
+        assertBordersAreWalls(maze);
+        assertThat(PerfectMazeCheck.isPerfect(maze)).isTrue();
+    }
+
+    @Test
+    void ellerGeneratorHandlesSingleRowAndColumn() {
+        assertThat(PerfectMazeCheck.isPerfect(new GenerationEller().generate(1, 9, 2))).isTrue();
+        assertThat(PerfectMazeCheck.isPerfect(new GenerationEller().generate(9, 1, 2))).isTrue();
+    }
+
+    @Test
+    void everyGeneratorShouldBeReproducibleForSeed() {
+        for (String algorithm : new String[] {"dfs", "prim", "parallel-dfs", "kruskal", "eller"}) {
+            Generator generator = ChooseGenerator.choose(algorithm);
+
+            Maze first = generator.generate(15, 12, 99);
+            Maze second = generator.generate(15, 12, 99);
+            Maze other = generator.generate(15, 12, 100);
+
+            assertThat(first.grid()).as(algorithm).isEqualTo(second.grid());
+            assertThat(first.grid()).as(algorithm).isNotEqualTo(other.grid());
+        }
+    }
+
+    /** Прежний цикл GenerationDFS на списках и {@code int[]}, переведённый на {@link SplittableRandom}. */
+    private static BitGrid referenceDfs(int x, int y, long seed) {
+        SplittableRandom random = new SplittableRandom(seed);
+        BitGrid cell = new BitGrid(x * 2 + 1, y * 2 + 1);
+        boolean[][] visited = new boolean[x][y];
+        Deque<int[]> stack = new ArrayDeque<>();
+
+        visited[0][0] = true;
+        cell.setPath(1, 1);
+        stack.push(new int[] {0, 0});
+        while (!stack.isEmpty()) {
+            int[] current = stack.peek();
+            List<int[]> neighbors = new ArrayList<>();
+            for (int[] dir : new int[][] {{-1, 0}, {1, 0}, {0, -1}, {0, 1}}) {
+                int nx = current[0] + dir[0], ny = current[1] + dir[1];
+                if (nx >= 0 && nx < x && ny >= 0 && ny < y && !visited[nx][ny]) {
+                    neighbors.add(new int[] {nx, ny});
+                }
+            }
+
+            if (neighbors.isEmpty()) {
+                stack.pop();
+                continue;
+            }
+            int[] next = neighbors.get(random.nextInt(neighbors.size()));
+            visited[next[0]][next[1]] = true;
+            cell.setPath(current[0] + next[0] + 1, current[1] + next[1] + 1);
+            cell.setPath(next[0] * 2 + 1, next[1] * 2 + 1);
+            stack.push(next);
+        }
+        return cell;
+    }
+
     private static void assertBordersAreWalls(Maze maze) {
         CellType[][] cells = maze.cells();
         for (int c = 0; c < maze.y(); c++) {
@@ -0,0 +1,45 @@
+package academy.maze.HelpAlgorithm;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.Test;
+
+class BucketQueueTest {
+
+    @Test
+    void pollShouldFollowNonDecreasingPriorities() {
+        BucketQueue queue = new BucketQueue(6, 3);
+        queue.push(0, 0);
+        assertThat(queue.poll()).isEqualTo(0);
+
+        queue.push(1, 3);
+        queue.push(2, 1);
+        queue.push(3, 2);
+
+        assertThat(queue.poll()).isEqualTo(2);
+        queue.push(4, 4);
+        assertThat(queue.poll()).isEqualTo(3);
+        assertThat(queue.poll()).isEqualTo(1);
+        assertThat(queue.poll()).isEqualTo(4);
+        assertThat(queue.isEmpty()).isTrue();
+    }
+
+    @Test
+    void pushShouldMoveItemToLowerBucket() {
+        BucketQueue queue = new BucketQueue(3, 2);
+        queue.push(0, 2);
+        queue.push(1, 1);
+        queue.push(0, 0);
+
+        assertThat(queue.poll()).isEqualTo(0);
+        assertThat(queue.priority(0)).isEqualTo(0);
+        assertThat(queue.poll()).isEqualTo(1);
+        assertThat(queue.isEmpty()).isTrue();
+    }
+
+    @Test
+    void negativeMaxWeightShouldBeRejected() {
+        assertThatThrownBy(() -> new BucketQueue(1, -1)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
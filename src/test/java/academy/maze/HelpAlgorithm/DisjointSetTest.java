@@ -0,0 +1,45 @@
+package academy.maze.HelpAlgorithm;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+class DisjointSetTest {
+
+    @Test
+    void newSetShouldKeepEveryItemSeparate() {
+        DisjointSet set = new DisjointSet(4);
+
+        assertThat(set.sets()).isEqualTo(4);
+        for (int i = 0; i < 4; i++) {
+            assertThat(set.find(i)).isEqualTo(i);
+        }
+    }
+
+    @Test
+    void unionShouldMergeSetsOnce() {
+        DisjointSet set = new DisjointSet(5);
+
+        assertThat(set.union(0, 1)).isTrue();
+        assertThat(set.union(2, 3)).isTrue();
+        assertThat(set.union(1, 0)).isFalse();
+        assertThat(set.union(1, 3)).isTrue();
+        assertThat(set.union(0, 2)).isFalse();
+
+        assertThat(set.sets()).isEqualTo(2);
+        assertThat(set.find(0)).isEqualTo(set.find(3));
+        assertThat(set.find(4)).isNotEqualTo(set.find(0));
+    }
+
+    @Test
+    void longChainShouldCollapseToSingleSet() {
+        int size = 100_000;
+        DisjointSet set = new DisjointSet(size);
+        for (int i = 1; i < size; i++) {
+            set.union(i - 1, i);
+        }
+
+        assertThat(set.sets()).isEqualTo(1);
+        assertThat(set.find(size - 1)).isEqualTo(set.find(0));
+    }
+}
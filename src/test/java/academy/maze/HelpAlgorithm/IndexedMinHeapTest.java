@@ -0,0 +1,50 @@
+package academy.maze.HelpAlgorithm;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+class IndexedMinHeapTest {
+
+    @Test
+    void pollShouldReturnItemsByPriorityThenIndex() {
+        IndexedMinHeap heap = new IndexedMinHeap(10);
+        heap.push(7, 3);
+        heap.push(2, 5);
+        heap.push(9, 1);
+        heap.push(4, 3);
+
+        assertThat(heap.poll()).isEqualTo(9);
+        assertThat(heap.poll()).isEqualTo(4);
+        assertThat(heap.poll()).isEqualTo(7);
+        assertThat(heap.poll()).isEqualTo(2);
+        assertThat(heap.isEmpty()).isTrue();
+    }
+
+    @Test
+    void pushShouldOnlyDecreasePriority() {
+        IndexedMinHeap heap = new IndexedMinHeap(4);
+        heap.push(0, 5);
+        heap.push(1, 4);
+        heap.push(0, 2);
+        heap.push(1, 9);
+
+        assertThat(heap.size()).isEqualTo(2);
+        assertThat(heap.peekPriority()).isEqualTo(2);
+        assertThat(heap.poll()).isEqualTo(0);
+        assertThat(heap.peekPriority()).isEqualTo(4);
+    }
+
+    @Test
+    void clearShouldAllowReuse() {
+        IndexedMinHeap heap = new IndexedMinHeap(3);
+        heap.push(1, 1);
+        heap.push(2, 2);
+
+        heap.clear();
+        heap.push(2, 7);
+
+        assertThat(heap.contains(1)).isFalse();
+        assertThat(heap.poll()).isEqualTo(2);
+    }
+}
@@ -0,0 +1,32 @@
+package academy.maze.HelpAlgorithm;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+class LatencyHistogramTest {
+
+    @Test
+    void percentilesShouldBoundRecordedLatenciesWithinFactorOfTwo() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int i = 1; i <= 100; i++) {
+            histogram.record(i * 1_000_000L);
+        }
+
+        LatencyHistogram.Snapshot snapshot = histogram.snapshot();
+
+        assertThat(snapshot.count()).isEqualTo(100);
+        assertThat(snapshot.maxMicros()).isEqualTo(100_000);
+        assertThat(snapshot.p50Micros()).isBetween(50_000L, 100_000L);
+        assertThat(snapshot.p99Micros()).isBetween(99_000L, 100_000L);
+    }
+
+    @Test
+    void emptyHistogramShouldReportZeros() {
+        LatencyHistogram.Snapshot snapshot = new LatencyHistogram().snapshot();
+
+        assertThat(snapshot.count()).isZero();
+        assertThat(snapshot.p90Micros()).isZero();
+        assertThat(snapshot.maxMicros()).isZero();
+    }
+}
@@ -0,0 +1,183 @@
+package academy.maze.IO;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import academy.maze.Generate.GenerationEller;
+import academy.maze.Generate.GenerationPrima;
+import academy.maze.dto.CostGrid;
+import academy.maze.dto.Maze;
+import academy.maze.dto.Point;
+import academy.maze.dto.Terrain;
+import academy.util.MazeTestFactory;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.junit.jupiter.api.Test;
+
+class MazeBinaryIOTest {
+
+    @Test
+    void saveAndLoadShouldRoundTripCellsAndPath() throws IOException {
+        Maze maze = MazeTestFactory.fromStringGrid("#####", "#   #", "### #", "#   #", "#####");
+        academy.maze.dto.Path path = new academy.maze.dto.Path(new Point[] {
+            new Point(1, 1), new Point(1, 2), new Point(1, 3), new Point(2, 3), new Point(3, 3), new Point(3, 2)
+        });
+        Path tmp = Files.createTempFile("maze-bin", ".bin");
+
+        MazeBinaryIO.save(maze, tmp, path);
+
+        assertThat(MazeBinaryIO.load(tmp).grid()).isEqualTo(maze.grid());
+        assertThat(MazeBinaryIO.loadPath(tmp).points()).containsExactly(path.points());
+    }
+
+    @Test
+    void saveAndLoadShouldRoundTripTerrain() throws IOException {
+        Maze plain = MazeTestFactory.fromStringGrid("#####", "#   #", "### #", "#   #", "#####");
+        CostGrid costs = new CostGrid(5, 5);
+        costs.set(1, 2, Terrain.SWAMP);
+        costs.set(3, 3, Terrain.ROAD);
+        Maze maze = new Maze(plain.grid(), costs);
+        Path tmp = Files.createTempFile("maze-bin", ".bin");
+
+        MazeBinaryIO.save(maze, tmp, null);
+        Maze loaded = MazeBinaryIO.load(tmp);
+
+        assertThat(loaded).isEqualTo(maze);
+        assertThat(Files.readAllBytes(tmp)[4]).isEqualTo(MazeBinaryIO.VERSION_TERRAIN);
+    }
+
+    @Test
+    void plainMazeShouldKeepFirstFormatVersion() throws IOException {
+        Maze maze = MazeTestFactory.fromStringGrid("###", "# #", "###");
+        Path tmp = Files.createTempFile("maze-bin", ".bin");
+
+        MazeBinaryIO.save(maze, tmp, null);
+
+        assertThat(Files.readAllBytes(tmp)[4]).isEqualTo(MazeBinaryIO.VERSION);
+        assertThat(MazeBinaryIO.load(tmp).isWeighted()).isFalse();
+    }
+
+    @Test
+    void binaryFileShouldBeMuchSmallerThanText() throws IOException {
+        Maze maze = new GenerationPrima().generate(200, 200);
+        Path bin = Files.createTempFile("maze-bin", ".bin");
+        Path text = Files.createTempFile("maze-text", ".txt");
+
+        MazeIO.saveToFile(maze, bin.toFile(), null, MazeFormat.BIN);
+        MazeIO.saveToFile(maze, text.toFile(), null, MazeFormat.TEXT);
+
+        assertThat(Files.size(bin) * 8).isLessThanOrEqualTo(Files.size(text));
+        assertThat(MazeIO.loadFromFile(bin.toFile(), MazeFormat.BIN).grid()).isEqualTo(maze.grid());
+    }
+
+    @Test
+    void loadShouldDetectCorruptedCells() throws IOException {
+        Maze maze = MazeTestFactory.fromStringGrid("###", "# #", "###");
+        Path tmp = Files.createTempFile("maze-bin", ".bin");
+        MazeBinaryIO.save(maze, tmp, null);
+        byte[] bytes = Files.readAllBytes(tmp);
+        bytes[16] ^= 1;
+        Files.write(tmp, bytes);
+
+        assertThatThrownBy(() -> MazeBinaryIO.load(tmp))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageStartingWith("Binary maze file is corrupted");
+    }
+
+    @Test
+    void loadShouldRejectDimensionsThatDoNotFitTheFile() throws IOException {
+        Maze maze = MazeTestFactory.fromStringGrid("###", "# #", "###");
+        Path tmp = Files.createTempFile("maze-bin", ".bin");
+        MazeBinaryIO.save(maze, tmp, null);
+
+        writeInt(tmp, 8, -3);
+        assertThatThrownBy(() -> MazeBinaryIO.load(tmp))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageStartingWith("Invalid maze size -3x3");
+
+        writeInt(tmp, 8, Integer.MAX_VALUE);
+        assertThatThrownBy(() -> MazeBinaryIO.load(tmp))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageStartingWith("Binary maze file is truncated");
+    }
+
+    @Test
+    void loadPathShouldRejectPathsOutsideTheMaze() throws IOException {
+        Maze maze = MazeTestFactory.fromStringGrid("#####", "#   #", "#####");
+        academy.maze.dto.Path path = new academy.maze.dto.Path(new Point[] {
+            new Point(1, 1), new Point(1, 2), new Point(1, 3)
+        });
+        Path tmp = Files.createTempFile("maze-bin", ".bin");
+        MazeBinaryIO.save(maze, tmp, path);
+        byte[] saved = Files.readAllBytes(tmp);
+
+        writeInt(tmp, 24, 0);
+        assertThatThrownBy(() -> MazeBinaryIO.loadPath(tmp))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageStartingWith("Invalid path length 0");
+
+        Files.write(tmp, saved);
+        writeInt(tmp, 24, Integer.MAX_VALUE);
+        assertThatThrownBy(() -> MazeBinaryIO.loadPath(tmp))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageStartingWith("Invalid path length");
+
+        saved[36] = (byte) 0b1111;
+        Files.write(tmp, saved);
+        assertThatThrownBy(() -> MazeBinaryIO.loadPath(tmp))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageStartingWith("Path leaves the maze at step 2");
+    }
+
+    @Test
+    void loadShouldRejectTextFile() throws IOException {
+        Path tmp = Files.createTempFile("maze-text", ".txt");
+        Files.writeString(tmp, String.join(System.lineSeparator(), "#####", "#   #", "#####"));
+
+        assertThatThrownBy(() -> MazeBinaryIO.load(tmp))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageStartingWith("Not a binary maze file");
+    }
+
+    @Test
+    void rowWriterShouldProduceSameFileAsSave() throws IOException {
+        GenerationEller generator = new GenerationEller();
+        Maze maze = generator.generate(20, 45, 5);
+        Path streamed = Files.createTempFile("maze-stream", ".bin");
+        Path saved = Files.createTempFile("maze-saved", ".bin");
+
+        try (MazeRowWriter writer = MazeBinaryIO.rowWriter(streamed, maze.x(), maze.y())) {
+            generator.stream(20, 45, 5, writer);
+        }
+        MazeBinaryIO.save(maze, saved, null);
+
+        assertThat(Files.readAllBytes(streamed)).isEqualTo(Files.readAllBytes(saved));
+    }
+
+    @Test
+    void rowWriterShouldRejectMissingRows() throws IOException {
+        Path tmp = Files.createTempFile("maze-stream", ".bin");
+        MazeRowWriter writer = MazeBinaryIO.rowWriter(tmp, 3, 3);
+        writer.writeRow(new long[1]);
+
+        assertThatThrownBy(writer::close)
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("Expected 3 maze rows, got 1");
+    }
+
+    @Test
+    void formatShouldParseKnownNames() {
+        assertThat(MazeFormat.parse("bin")).isEqualTo(MazeFormat.BIN);
+        assertThat(MazeFormat.parse("TEXT")).isEqualTo(MazeFormat.TEXT);
+        assertThatThrownBy(() -> MazeFormat.parse("xml")).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static void writeInt(Path file, int offset, int value) throws IOException {
+        byte[] bytes = Files.readAllBytes(file);
+        ByteBuffer.wrap(bytes).order(ByteOrder.LITTLE_ENDIAN).putInt(offset, value);
+        Files.write(file, bytes);
+    }
+}
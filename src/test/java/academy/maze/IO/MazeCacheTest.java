@@ -0,0 +1,76 @@
+package academy.maze.IO;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import academy.maze.Generate.GenerationPrima;
+import academy.maze.dto.Maze;
+import academy.util.MazeTestFactory;
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import org.junit.jupiter.api.Test;
+
+class MazeCacheTest {
+
+    @Test
+    void loadShouldReturnCachedMazeForUnchangedFile() throws IOException {
+        Path tmp = Files.createTempFile("maze-cache", ".txt");
+        MazeIO.saveToFile(MazeTestFactory.fromStringGrid("#####", "#   #", "#####"), tmp.toFile(), null);
+        MazeCache cache = new MazeCache(1 << 20);
+
+        Maze first = cache.load(tmp.toFile(), MazeFormat.TEXT);
+        Maze second = cache.load(tmp.toFile(), MazeFormat.TEXT);
+
+        assertThat(second).isSameAs(first);
+        assertThat(cache.stats().hitCount()).isEqualTo(1);
+        assertThat(cache.stats().missCount()).isEqualTo(1);
+    }
+
+    @Test
+    void loadShouldReadFileAgainAfterItChanged() throws IOException {
+        Path tmp = Files.createTempFile("maze-cache", ".bin");
+        File file = tmp.toFile();
+        MazeIO.saveToFile(MazeTestFactory.fromStringGrid("###", "# #", "###"), file, null, MazeFormat.BIN);
+        MazeCache cache = new MazeCache(1 << 20);
+        Maze before = cache.load(file, MazeFormat.BIN);
+
+        Maze changed = MazeTestFactory.fromStringGrid("#####", "#   #", "#####");
+        MazeIO.saveToFile(changed, file, null, MazeFormat.BIN);
+        Files.setLastModifiedTime(tmp, FileTime.fromMillis(Files.getLastModifiedTime(tmp).toMillis() + 2000));
+        Maze after = cache.load(file, MazeFormat.BIN);
+
+        assertThat(after).isNotSameAs(before);
+        assertThat(after.grid()).isEqualTo(changed.grid());
+        assertThat(cache.stats().missCount()).isEqualTo(2);
+    }
+
+    @Test
+    void cacheShouldEvictMazesOverWeightLimit() throws IOException {
+        Maze maze = new GenerationPrima().generate(150, 150, 1);
+        int weight = MazeCache.weight(maze);
+        assertThat(weight).isEqualTo((maze.grid().words() * Long.BYTES + 1023) / 1024);
+        MazeCache cache = new MazeCache((weight * 5L / 2) << 10);
+
+        for (int i = 0; i < 4; i++) {
+            Path tmp = Files.createTempFile("maze-cache", ".bin");
+            MazeIO.saveToFile(maze, tmp.toFile(), null, MazeFormat.BIN);
+            cache.load(tmp.toFile(), MazeFormat.BIN);
+        }
+        cache.cleanUp();
+
+        assertThat(cache.size()).isLessThanOrEqualTo(2);
+        assertThat(cache.stats().evictionCount()).isGreaterThanOrEqualTo(2);
+    }
+
+    @Test
+    void loadShouldFailForMissingFile() {
+        MazeCache cache = new MazeCache(1 << 20);
+
+        assertThatThrownBy(() -> cache.load(new File("no-such-maze.txt"), MazeFormat.TEXT))
+                .isInstanceOf(UncheckedIOException.class);
+    }
+}
@@ -1,11 +1,15 @@
 package academy.maze.IO;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import academy.maze.dto.CellType;
 import academy.maze.dto.Maze;
 import academy.maze.dto.Point;
+import academy.maze.dto.Terrain;
 import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.MalformedInputException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import org.junit.jupiter.api.Test;
@@ -25,6 +29,38 @@ class MazeIOTest {
         assertThat(maze.cells()[0][0]).isEqualTo(CellType.WALL);
     }
 
+    @Test
+    void loadFromFile_shouldAcceptWindowsLineEndings() throws IOException {
+        Path tmp = Files.createTempFile("maze-load-crlf", ".txt");
+        Files.writeString(tmp, "#####\r\n#  .#\r\n#####\r\n");
+
+        Maze maze = MazeIO.loadFromFile(tmp.toFile());
+
+        assertThat(maze.x()).isEqualTo(3);
+        assertThat(maze.y()).isEqualTo(5);
+        assertThat(maze.isPath(1, 3)).isTrue();
+        assertThat(maze.isWall(1, 4)).isTrue();
+    }
+
+    @Test
+    void loadFromFile_shouldRejectNonRectangularRows() throws IOException {
+        Path tmp = Files.createTempFile("maze-load-ragged", ".txt");
+        Files.writeString(tmp, String.join("\n", "###", "# ##", "###"));
+
+        assertThatThrownBy(() -> MazeIO.loadFromFile(tmp.toFile()))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Maze file must be rectangular. Line 2 has length 4, expected 3");
+    }
+
+    @Test
+    void loadFromFile_shouldRejectEmptyFile() throws IOException {
+        Path tmp = Files.createTempFile("maze-load-empty", ".txt");
+
+        assertThatThrownBy(() -> MazeIO.loadFromFile(tmp.toFile()))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageStartingWith("Maze file is empty");
+    }
+
     @Test
     void saveToFile_shouldPersistWallsAndPathOverlay() throws IOException {
         CellType[][] cells = {
@@ -41,4 +77,55 @@ class MazeIOTest {
         String expected = String.join(System.lineSeparator(), "###", "#.#", "#.#") + System.lineSeparator();
         assertThat(Files.readString(tmp)).isEqualTo(expected);
     }
+
+    @Test
+    void loadFromFile_shouldReadTerrainAndWriteItBack() throws IOException {
+        Path tmp = Files.createTempFile("maze-terrain", ".txt");
+        String text = String.join(System.lineSeparator(), "#~=#", "#: #", "####") + System.lineSeparator();
+        Files.writeString(tmp, text);
+
+        Maze maze = MazeIO.loadFromFile(tmp.toFile());
+
+        assertThat(maze.isWeighted()).isTrue();
+        assertThat(maze.costs().terrain(0, 1)).isEqualTo(Terrain.SWAMP);
+        assertThat(maze.costs().terrain(0, 2)).isEqualTo(Terrain.ROAD);
+        assertThat(maze.costs().terrain(1, 1)).isEqualTo(Terrain.SAND);
+        assertThat(maze.costs().terrain(1, 2)).isEqualTo(Terrain.PATH);
+        assertThat(maze.isPath(0, 1)).isTrue();
+
+        Path copy = Files.createTempFile("maze-terrain", ".txt");
+        MazeIO.saveToFile(maze, copy.toFile(), null);
+
+        assertThat(Files.readString(copy)).isEqualTo(text);
+    }
+
+    @Test
+    void loadFromFile_shouldSkipCostsForPlainMaze() throws IOException {
+        Path tmp = Files.createTempFile("maze-plain", ".txt");
+        Files.writeString(tmp, String.join(System.lineSeparator(), "###", "# #", "###"));
+
+        assertThat(MazeIO.loadFromFile(tmp.toFile()).isWeighted()).isFalse();
+    }
+
+    @Test
+    void loadFromFile_shouldCountCharactersLikeReadAllLines() throws IOException {
+        Path tmp = Files.createTempFile("maze-utf8", ".txt");
+        Files.writeString(tmp, String.join("\n", "#####", "#\u00e9\uD83D\uDE00#", "#####"));
+
+        Maze maze = MazeIO.loadFromFile(tmp.toFile());
+
+        assertThat(maze.y()).isEqualTo(5);
+        assertThat(maze.isPath(1, 1)).isTrue();
+        assertThat(maze.isPath(1, 3)).isTrue();
+    }
+
+    @Test
+    void loadFromFile_shouldRejectMalformedUtf8() throws IOException {
+        Path tmp = Files.createTempFile("maze-malformed", ".txt");
+        Files.write(tmp, new byte[] {'#', '#', '\n', '#', (byte) 0xC3, '\n'});
+
+        assertThatThrownBy(() -> MazeIO.loadFromFile(tmp.toFile()))
+                .isInstanceOf(UncheckedIOException.class)
+                .hasCauseInstanceOf(MalformedInputException.class);
+    }
 }
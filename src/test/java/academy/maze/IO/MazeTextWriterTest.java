@@ -0,0 +1,70 @@
+package academy.maze.IO;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import academy.maze.dto.Maze;
+import academy.maze.dto.Path;
+import academy.maze.dto.Point;
+import academy.util.MazeTestFactory;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import org.junit.jupiter.api.Test;
+
+class MazeTextWriterTest {
+
+    private static final Maze MAZE = MazeTestFactory.fromStringGrid("#####", "#   #", "### #", "#   #", "#####");
+    private static final Path PATH = new Path(
+            new Point[] {new Point(1, 1), new Point(1, 2), new Point(1, 3), new Point(2, 3), new Point(3, 3)});
+
+    @Test
+    void writeShouldMarkPathEndsWhenRequested() throws IOException {
+        String output = render(PATH, true);
+
+        String expected = String.join(System.lineSeparator(), "#####", "#O..#", "###.#", "#  X#", "#####")
+                + System.lineSeparator();
+        assertThat(output).isEqualTo(expected);
+    }
+
+    @Test
+    void writeShouldDrawDotsOnlyWithoutMarkers() throws IOException {
+        String output = render(PATH, false);
+
+        String expected = String.join(System.lineSeparator(), "#####", "#...#", "###.#", "#  .#", "#####")
+                + System.lineSeparator();
+        assertThat(output).isEqualTo(expected);
+    }
+
+    @Test
+    void writeShouldIgnorePointsOutsideMaze() throws IOException {
+        String output = render(new Path(new Point[] {new Point(7, 7), new Point(3, 1)}), false);
+
+        String expected = String.join(System.lineSeparator(), "#####", "#   #", "### #", "#.  #", "#####")
+                + System.lineSeparator();
+        assertThat(output).isEqualTo(expected);
+    }
+
+    @Test
+    void rowWriterShouldWriteSameTextAsWrite() throws IOException {
+        java.nio.file.Path tmp = Files.createTempFile("maze-stream", ".txt");
+
+        try (MazeRowWriter writer = MazeTextWriter.rowWriter(tmp, MAZE.y())) {
+            for (int i = 0; i < MAZE.x(); i++) {
+                long[] row = new long[1];
+                for (int j = 0; j < MAZE.y(); j++) {
+                    if (MAZE.isPath(i, j)) row[0] |= 1L << j;
+                }
+                writer.writeRow(row);
+            }
+        }
+
+        assertThat(Files.readString(tmp)).isEqualTo(render(null, false));
+    }
+
+    private static String render(Path path, boolean markEnds) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        MazeTextWriter.write(MAZE, out, path, markEnds);
+        return out.toString(StandardCharsets.US_ASCII);
+    }
+}
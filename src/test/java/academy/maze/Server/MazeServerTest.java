@@ -0,0 +1,173 @@
+package academy.maze.Server;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import academy.maze.IO.MazeCache;
+import academy.maze.IO.MazeFormat;
+import academy.maze.IO.MazeIO;
+import academy.maze.Solve.PathCache;
+import academy.maze.Solve.SolveScheduler;
+import academy.maze.dto.Maze;
+import academy.util.MazeTestFactory;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import org.junit.jupiter.api.Test;
+
+class MazeServerTest {
+    private final HttpClient client = HttpClient.newHttpClient();
+    private final SolveScheduler scheduler = new SolveScheduler(2, 10, Duration.ofSeconds(5));
+
+    @Test
+    void generatedMazeShouldBeSolvable() throws Exception {
+        try (MazeServer server = start()) {
+            HttpResponse<String> created = post(server, "/mazes?algorithm=prim&width=5&height=4&seed=3", "");
+            HttpResponse<String> solved = get(server, "/solve?maze=1&algorithm=astar&start=1,1&end=9,7");
+
+            assertThat(created.statusCode()).isEqualTo(201);
+            assertThat(created.body()).contains("\"id\":\"1\"").contains("\"rows\":11").contains("\"cols\":9");
+            assertThat(solved.statusCode()).isEqualTo(200);
+            assertThat(solved.body()).contains("\"end\":\"9,7\"").contains("[[1,1],").contains("[9,7]]");
+        }
+    }
+
+    @Test
+    void statsShouldCountSolvesAndCacheHits() throws Exception {
+        try (MazeServer server = start()) {
+            post(server, "/mazes?algorithm=dfs&width=4&height=4&seed=1", "");
+            get(server, "/solve?maze=1&algorithm=dial&start=1,1&end=7,7");
+            get(server, "/solve?maze=1&algorithm=dial&start=1,1&end=7,7");
+            HttpResponse<String> stats = get(server, "/stats");
+
+            assertThat(stats.statusCode()).isEqualTo(200);
+            assertThat(stats.body())
+                    .contains("\"rejected\":0")
+                    .contains("\"latency\":{\"count\":2")
+                    .contains("\"pathCache\":{\"size\":1,\"hits\":1,\"misses\":1");
+        }
+    }
+
+    @Test
+    void loadedMazeShouldBeServedBackAndSolvedInBatch() throws Exception {
+        Path root = Files.createTempDirectory("maze-server");
+        Path file = root.resolve("maze.bin");
+        Maze maze = MazeTestFactory.fromStringGrid("#####", "#   #", "# # #", "#####");
+        MazeIO.saveToFile(maze, file.toFile(), null, MazeFormat.BIN);
+        String expectedText = String.join(System.lineSeparator(), "#####", "#   #", "# # #", "#####", "");
+
+        try (MazeServer server = start(root)) {
+            HttpResponse<String> loaded = post(server, "/mazes/load?format=bin&file=maze.bin", "");
+            HttpResponse<String> text = get(server, "/mazes/1");
+            HttpResponse<String> batch = post(server, "/solve-batch?maze=1&algorithm=dijkstra", "1,1 2,3\n0,0 1,1\n");
+
+            assertThat(loaded.statusCode()).isEqualTo(201);
+            assertThat(text.body()).isEqualTo(expectedText);
+            assertThat(batch.body())
+                    .contains("\"length\":3")
+                    .contains("[[1,1],[1,2],[1,3],[2,3]]")
+                    .contains("{\"error\":\"Start or end point is inside a wall\"}");
+        }
+    }
+
+    @Test
+    void reloadingSameFileShouldKeepItsId() throws Exception {
+        Path root = Files.createTempDirectory("maze-server");
+        Path file = root.resolve("maze.txt");
+        MazeIO.saveToFile(MazeTestFactory.fromStringGrid("###", "# #", "###"), file.toFile(), null, MazeFormat.TEXT);
+
+        try (MazeServer server = start(root)) {
+            HttpResponse<String> first = post(server, "/mazes/load?file=maze.txt", "");
+            HttpResponse<String> second = post(server, "/mazes/load?file=./maze.txt", "");
+
+            assertThat(first.statusCode()).isEqualTo(201);
+            assertThat(second.statusCode()).isEqualTo(200);
+            assertThat(second.body()).contains("\"id\":\"1\"");
+        }
+    }
+
+    @Test
+    void loadShouldRefuseFilesOutsideRoot() throws Exception {
+        Path root = Files.createTempDirectory("maze-server");
+        Files.writeString(root.resolveSibling("x"), "###");
+
+        try (MazeServer server = start(root)) {
+            assertThat(post(server, "/mazes/load?file=/etc/passwd", "").statusCode()).isEqualTo(403);
+            assertThat(post(server, "/mazes/load?file=../x", "").statusCode()).isEqualTo(403);
+            assertThat(post(server, "/mazes/load?file=sub/../../x", "").statusCode()).isEqualTo(403);
+        }
+    }
+
+    @Test
+    void deletedMazeShouldBeGone() throws Exception {
+        try (MazeServer server = start()) {
+            post(server, "/mazes?algorithm=prim&width=3&height=3&seed=1", "");
+            HttpRequest delete = HttpRequest.newBuilder(uri(server, "/mazes/1")).DELETE().build();
+
+            assertThat(client.send(delete, HttpResponse.BodyHandlers.ofString()).statusCode()).isEqualTo(204);
+            assertThat(get(server, "/mazes/1").statusCode()).isEqualTo(404);
+        }
+    }
+
+    @Test
+    void oversizedRequestsShouldBeRejected() throws Exception {
+        try (MazeServer server = start()) {
+            assertThat(post(server, "/mazes?algorithm=prim&width=100000&height=3", "").statusCode())
+                    .isEqualTo(400);
+            assertThat(post(server, "/mazes?algorithm=prim&width=3000&height=3000", "").statusCode())
+                    .isEqualTo(400);
+
+            post(server, "/mazes?algorithm=prim&width=3&height=3&seed=1", "");
+            String body = "1,1 1,1\n".repeat((1 << 20) / 8 + 1);
+            assertThat(post(server, "/solve-batch?maze=1&algorithm=astar", body).statusCode())
+                    .isEqualTo(400);
+        }
+    }
+
+    @Test
+    void badRequestsShouldGetErrorCodes() throws Exception {
+        try (MazeServer server = start()) {
+            assertThat(get(server, "/solve?maze=42&algorithm=astar&start=1,1&end=1,1").statusCode()).isEqualTo(404);
+            assertThat(get(server, "/mazes?algorithm=prim&width=3&height=3").statusCode()).isEqualTo(405);
+            assertThat(post(server, "/mazes?algorithm=nope&width=3&height=3", "").statusCode()).isEqualTo(400);
+        }
+    }
+
+    private MazeServer start() throws IOException {
+        return start(Files.createTempDirectory("maze-server"));
+    }
+
+    private MazeServer start(Path root) throws IOException {
+        MazeServer server = new MazeServer(
+                new InetSocketAddress(InetAddress.getLoopbackAddress(), 0),
+                root,
+                1 << 20,
+                new MazeCache(1 << 20),
+                new PathCache(1 << 20),
+                scheduler);
+        server.start();
+        return server;
+    }
+
+    private HttpResponse<String> get(MazeServer server, String path) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(uri(server, path)).GET().build();
+        return client.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+
+    private HttpResponse<String> post(MazeServer server, String path, String body) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(uri(server, path))
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+        return client.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+
+    private static URI uri(MazeServer server, String path) {
+        return URI.create("http://127.0.0.1:" + server.port() + path);
+    }
+}
@@ -0,0 +1,75 @@
+package academy.maze.Solve;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import academy.maze.Generate.GenerationDFS;
+import academy.maze.dto.Maze;
+import academy.maze.dto.Point;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+
+class BatchSolverTest {
+
+    private static final Maze MAZE = new GenerationDFS().generate(20, 20, 8);
+
+    @Test
+    void solveAllShouldReturnResultsInQueryOrder() {
+        List<Integer> queries = IntStream.range(0, 500).boxed().toList();
+        List<Integer> results = new ArrayList<>();
+
+        try (BatchSolver batch = new BatchSolver(SolverAStar::new, 4)) {
+            batch.solveAll(queries.iterator(), (solver, n) -> n, results::add);
+        }
+
+        assertThat(results).isEqualTo(queries);
+    }
+
+    @Test
+    void solveAllShouldCreateAtMostOneSolverPerThread() {
+        AtomicInteger created = new AtomicInteger();
+        List<Integer> lengths = new ArrayList<>();
+        Point start = new Point(1, 1);
+
+        try (BatchSolver batch = new BatchSolver(
+                () -> {
+                    created.incrementAndGet();
+                    return new SolverDial();
+                },
+                3)) {
+            batch.solveAll(
+                    IntStream.range(1, 20).iterator(),
+                    (solver, n) -> solver.solve(MAZE, start, new Point(2 * n - 1, 2 * n - 1)).points().length,
+                    lengths::add);
+        }
+
+        assertThat(created.get()).isLessThanOrEqualTo(3);
+        for (int n = 1; n < 20; n++) {
+            int expected = new SolverAStar().solve(MAZE, start, new Point(2 * n - 1, 2 * n - 1)).points().length;
+            assertThat(lengths.get(n - 1)).isEqualTo(expected);
+        }
+    }
+
+    @Test
+    void solveAllShouldRethrowQueryFailure() {
+        try (BatchSolver batch = new BatchSolver(SolverAStar::new, 2)) {
+            assertThatThrownBy(() -> batch.solveAll(
+                            List.of(1, 2, 3).iterator(),
+                            (solver, n) -> {
+                                if (n == 2) throw new IllegalStateException("broken query");
+                                return n;
+                            },
+                            n -> {}))
+                    .isInstanceOf(IllegalStateException.class)
+                    .hasMessage("broken query");
+        }
+    }
+
+    @Test
+    void constructorShouldRejectNonPositiveThreadCount() {
+        assertThatThrownBy(() -> new BatchSolver(SolverAStar::new, 0)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -16,6 +16,41 @@ class ChooseSolverTest {
         assertThat(ChooseSolver.choose("astar")).isInstanceOf(SolverAStar.class);
     }
 
+    @Test
+    void chooseShouldReturnDial() {
+        assertThat(ChooseSolver.choose("dial")).isInstanceOf(SolverDial.class);
+    }
+
+    @Test
+    void chooseShouldReturnBidirectionalVariants() {
+        assertThat(ChooseSolver.choose("bidijkstra"))
+                .isInstanceOfSatisfying(SolverBidirectional.class, s -> assertThat(s.usesHeuristic())
+                        .isFalse());
+        assertThat(ChooseSolver.choose("biastar"))
+                .isInstanceOfSatisfying(SolverBidirectional.class, s -> assertThat(s.usesHeuristic())
+                        .isTrue());
+    }
+
+    @Test
+    void chooseShouldReturnCorridorVariants() {
+        assertThat(ChooseSolver.choose("corridor-dijkstra"))
+                .isInstanceOfSatisfying(SolverCorridor.class, s -> assertThat(s.usesHeuristic())
+                        .isFalse());
+        assertThat(ChooseSolver.choose("corridor-astar"))
+                .isInstanceOfSatisfying(SolverCorridor.class, s -> assertThat(s.usesHeuristic())
+                        .isTrue());
+    }
+
+    @Test
+    void chooseShouldReturnTreeSolver() {
+        assertThat(ChooseSolver.choose("tree")).isInstanceOf(SolverTree.class);
+    }
+
+    @Test
+    void chooseShouldReturnJumpPointSearch() {
+        assertThat(ChooseSolver.choose("jps")).isInstanceOf(SolverJumpPoint.class);
+    }
+
     @Test
     void chooseShouldReturnNullForUnknownAlgorithm() {
         assertThat(ChooseSolver.choose("unknown")).isNull();
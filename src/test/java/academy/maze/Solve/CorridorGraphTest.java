@@ -0,0 +1,52 @@
+package academy.maze.Solve;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import academy.maze.Generate.GenerationDFS;
+import academy.maze.dto.Maze;
+import academy.util.MazeTestFactory;
+import org.junit.jupiter.api.Test;
+
+class CorridorGraphTest {
+
+    @Test
+    void corridorBetweenDeadEndsShouldBecomeOneEdge() {
+        Maze maze = MazeTestFactory.fromStringGrid("#####", "#   #", "### #", "#   #", "#####");
+
+        CorridorGraph graph = CorridorGraph.of(maze);
+
+        assertThat(graph.nodeCount()).isEqualTo(2);
+        assertThat(graph.corridorCount()).isEqualTo(1);
+    }
+
+    @Test
+    void ringWithoutJunctionsShouldGetOneNode() {
+        Maze ring = MazeTestFactory.fromStringGrid("#####", "#   #", "# # #", "#   #", "#####");
+
+        CorridorGraph graph = CorridorGraph.of(ring);
+
+        assertThat(graph.nodeCount()).isEqualTo(1);
+        assertThat(graph.corridorCount()).isEqualTo(1);
+    }
+
+    @Test
+    void perfectMazeShouldHaveOneCorridorLessThanNodes() {
+        Maze maze = new GenerationDFS().generate(20, 20, 3);
+
+        CorridorGraph graph = CorridorGraph.of(maze);
+
+        assertThat(graph.corridorCount()).isEqualTo(graph.nodeCount() - 1);
+        assertThat(graph.nodeCount()).isLessThan(20 * 20);
+    }
+
+    @Test
+    void graphShouldBeCachedPerMaze() {
+        Maze maze = new GenerationDFS().generate(10, 10, 5);
+        Maze same = new GenerationDFS().generate(10, 10, 5);
+
+        CorridorGraph graph = CorridorGraph.of(maze);
+
+        assertThat(CorridorGraph.of(maze)).isSameAs(graph);
+        assertThat(CorridorGraph.of(same)).isNotSameAs(graph);
+    }
+}
@@ -0,0 +1,99 @@
+package academy.maze.Solve;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import academy.maze.Generate.GenerationPrima;
+import academy.maze.dto.CostGrid;
+import academy.maze.dto.Maze;
+import academy.maze.dto.Point;
+import academy.maze.dto.Terrain;
+import academy.util.MazeTestFactory;
+import java.util.SplittableRandom;
+import org.junit.jupiter.api.Test;
+
+class DistanceFieldTest {
+
+    private static final Maze SIMPLE_MAZE = MazeTestFactory.fromStringGrid("#####", "#   #", "### #", "#   #", "#####");
+
+    @Test
+    void fieldShouldHoldDistancesToEveryCell() {
+        DistanceField field = DistanceField.of(SIMPLE_MAZE, new Point(1, 1));
+
+        assertThat(field.distance(new Point(1, 1))).isZero();
+        assertThat(field.distance(new Point(2, 3))).isEqualTo(3);
+        assertThat(field.distance(new Point(3, 1))).isEqualTo(6);
+        assertThat(field.distance(new Point(0, 0))).isEqualTo(DistanceField.UNREACHABLE);
+        assertThat(field.distance(new Point(7, 7))).isEqualTo(DistanceField.UNREACHABLE);
+        assertThat(field.farthest()).isEqualTo(new Point(3, 1));
+    }
+
+    @Test
+    void pathToShouldMatchSolverForEveryTarget() {
+        Maze maze = new GenerationPrima().generate(9, 7, 11);
+        Point source = new Point(1, 1);
+        DistanceField field = DistanceField.of(maze, source);
+        Solver solver = new SolverDijkstra();
+
+        for (int i = 0; i < maze.x(); i++) {
+            for (int j = 0; j < maze.y(); j++) {
+                Point target = new Point(i, j);
+                if (maze.isWall(i, j)) {
+                    assertThat(field.isReachable(target)).isFalse();
+                    assertThat(field.pathTo(target).points()).isEmpty();
+                    continue;
+                }
+                Point[] path = field.pathTo(target).points();
+
+                assertThat(path).hasSize(field.distance(target) + 1);
+                assertThat(path).hasSize(solver.solve(maze, source, target).points().length);
+                assertThat(path[0]).isEqualTo(source);
+                assertThat(path[path.length - 1]).isEqualTo(target);
+            }
+        }
+    }
+
+    @Test
+    void weightedFieldShouldHoldCheapestCosts() {
+        Maze plain = new GenerationPrima().generate(9, 7, 11);
+        CostGrid costs = new CostGrid(plain.x(), plain.y());
+        SplittableRandom random = new SplittableRandom(11);
+        for (int i = 1; i < plain.x() - 1; i++) {
+            for (int j = 1; j < plain.y() - 1; j++) {
+                if (random.nextInt(6) == 0) plain.grid().setPath(i, j);
+                costs.set(i, j, Terrain.values()[random.nextInt(Terrain.values().length)]);
+            }
+        }
+        Maze maze = new Maze(plain.grid(), costs);
+        Point source = new Point(1, 1);
+        DistanceField field = DistanceField.of(maze, source);
+        Solver solver = new SolverDijkstra();
+
+        for (int i = 1; i < maze.x() - 1; i++) {
+            for (int j = 1; j < maze.y() - 1; j++) {
+                Point target = new Point(i, j);
+                if (maze.isWall(i, j)) continue;
+                int expected = cost(maze, solver.solve(maze, source, target).points());
+
+                assertThat(field.distance(target)).isEqualTo(expected);
+                assertThat(cost(maze, field.pathTo(target).points())).isEqualTo(expected);
+            }
+        }
+    }
+
+    @Test
+    void sourceShouldBeFreeCellInsideMaze() {
+        assertThatThrownBy(() -> DistanceField.of(SIMPLE_MAZE, new Point(0, 0)))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> DistanceField.of(SIMPLE_MAZE, new Point(5, 1)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static int cost(Maze maze, Point[] points) {
+        int cost = 0;
+        for (int i = 1; i < points.length; i++) {
+            cost += maze.costs().cost(points[i].x(), points[i].y());
+        }
+        return cost;
+    }
+}
@@ -0,0 +1,111 @@
+package academy.maze.Solve;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import academy.maze.Generate.GenerationPrima;
+import academy.maze.dto.CostGrid;
+import academy.maze.dto.Maze;
+import academy.maze.dto.Point;
+import academy.maze.dto.Terrain;
+import academy.util.MazeTestFactory;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+class PathCacheTest {
+
+    @Test
+    void repeatedQueryShouldNotCallSolverAgain() {
+        Maze maze = new GenerationPrima().generate(10, 10, 4);
+        Point start = new Point(1, 1), end = new Point(maze.x() - 2, maze.y() - 2);
+        AtomicInteger calls = new AtomicInteger();
+        Solver counting = (m, s, e) -> {
+            calls.incrementAndGet();
+            return new SolverAStar().solve(m, s, e);
+        };
+        Solver cached = new PathCache(1 << 20).wrap("astar", counting);
+
+        Point[] first = cached.solve(maze, start, end).points();
+        Point[] second = cached.solve(maze, start, end).points();
+
+        assertThat(second).containsExactly(first);
+        assertThat(first).containsExactly(new SolverAStar().solve(maze, start, end).points());
+        assertThat(calls.get()).isEqualTo(1);
+    }
+
+    @Test
+    void missingPathShouldBeCachedToo() {
+        Maze maze = MazeTestFactory.fromStringGrid("#####", "# # #", "#####");
+        PathCache cache = new PathCache(1 << 20);
+
+        cache.solve(new SolverAStar(), "astar", maze, new Point(1, 1), new Point(1, 3));
+        Point[] points = cache.solve(new SolverAStar(), "astar", maze, new Point(1, 1), new Point(1, 3)).points();
+
+        assertThat(points).isEmpty();
+        assertThat(cache.stats().hitCount()).isEqualTo(1);
+    }
+
+    @Test
+    void fingerprintShouldDependOnContentNotInstance() {
+        Maze maze = MazeTestFactory.fromStringGrid("#####", "#   #", "#####");
+        Maze same = MazeTestFactory.fromStringGrid("#####", "#   #", "#####");
+        Maze other = MazeTestFactory.fromStringGrid("#####", "#  ##", "#####");
+
+        assertThat(PathCache.fingerprint(same)).isEqualTo(PathCache.fingerprint(maze));
+        assertThat(PathCache.fingerprint(other)).isNotEqualTo(PathCache.fingerprint(maze));
+    }
+
+    @Test
+    void mazesSharingGridShouldNotShareCostAwarePaths() {
+        Maze plain = MazeTestFactory.fromStringGrid("#####", "#   #", "# # #", "#   #", "#####");
+        CostGrid costs = new CostGrid(plain.x(), plain.y());
+        costs.set(1, 2, Terrain.SWAMP);
+        for (Point road : new Point[] {new Point(2, 1), new Point(3, 1), new Point(3, 2), new Point(3, 3)}) {
+            costs.set(road.x(), road.y(), Terrain.ROAD);
+        }
+        Maze weighted = new Maze(plain.grid(), costs);
+        Point start = new Point(1, 1), end = new Point(1, 3);
+        AtomicInteger calls = new AtomicInteger();
+        Solver counting = (m, s, e) -> {
+            calls.incrementAndGet();
+            return new SolverDijkstra().solve(m, s, e);
+        };
+        Solver cached = new PathCache(1 << 20).wrap("dijkstra", counting);
+
+        Point[] direct = cached.solve(plain, start, end).points();
+        Point[] detour = cached.solve(weighted, start, end).points();
+
+        assertThat(calls.get()).isEqualTo(2);
+        assertThat(direct).hasSize(3);
+        assertThat(detour).hasSize(7);
+    }
+
+    @Test
+    void savedCacheShouldAnswerAfterReload() throws IOException {
+        Maze maze = new GenerationPrima().generate(12, 9, 7);
+        Point start = new Point(1, 1), end = new Point(maze.x() - 2, maze.y() - 2);
+        PathCache cache = new PathCache(1 << 20);
+        Point[] expected = cache.solve(new SolverDijkstra(), "dijkstra", maze, start, end).points();
+        Path file = Files.createTempFile("path-cache", ".bin");
+        cache.save(file);
+
+        PathCache restored = new PathCache(1 << 20);
+        restored.load(file);
+        Solver failing = (m, s, e) -> {
+            throw new AssertionError("solver must not be called");
+        };
+
+        assertThat(restored.solve(failing, "dijkstra", maze, start, end).points()).containsExactly(expected);
+    }
+
+    @Test
+    void loadShouldRejectForeignFile() throws IOException {
+        Path file = Files.createTempFile("path-cache", ".bin");
+        Files.write(file, new byte[16]);
+
+        assertThatThrownBy(() -> new PathCache(1 << 20).load(file)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
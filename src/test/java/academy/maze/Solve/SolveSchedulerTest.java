@@ -0,0 +1,96 @@
+package academy.maze.Solve;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import academy.maze.Generate.GenerationDFS;
+import academy.maze.dto.Maze;
+import academy.maze.dto.Point;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import org.junit.jupiter.api.Test;
+
+class SolveSchedulerTest {
+
+    private static final Maze MAZE = new GenerationDFS().generate(15, 15, 2).freeze();
+
+    @Test
+    void concurrentRequestsShouldShareFrozenMaze() {
+        Point start = new Point(1, 1);
+        List<CompletableFuture<Integer>> results = new ArrayList<>();
+
+        try (SolveScheduler scheduler = new SolveScheduler(4, 100, Duration.ofSeconds(10))) {
+            for (int n = 1; n <= 15; n++) {
+                Point end = new Point(2 * n - 1, 2 * n - 1);
+                results.add(scheduler.submit("astar", solver -> solver.solve(MAZE, start, end).length()));
+            }
+            for (int n = 1; n <= 15; n++) {
+                Point end = new Point(2 * n - 1, 2 * n - 1);
+                int expected = new SolverAStar().solve(MAZE, start, end).length();
+                assertThat(results.get(n - 1).join()).isEqualTo(expected);
+            }
+            assertThat(scheduler.stats().latency().count()).isEqualTo(15);
+            assertThat(scheduler.stats().inFlight()).isZero();
+        }
+    }
+
+    @Test
+    void fullQueueShouldRejectImmediately() throws InterruptedException {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        try (SolveScheduler scheduler = new SolveScheduler(1, 0, Duration.ofSeconds(10))) {
+            CompletableFuture<Integer> busy = scheduler.submit("dijkstra", solver -> {
+                started.countDown();
+                await(release);
+                return 1;
+            });
+            started.await();
+
+            assertThatThrownBy(() -> scheduler.submit("dijkstra", solver -> 2))
+                    .isInstanceOf(RejectedExecutionException.class);
+            release.countDown();
+            assertThat(busy.join()).isEqualTo(1);
+            assertThat(scheduler.stats().rejected()).isEqualTo(1);
+        }
+    }
+
+    @Test
+    void requestWaitingTooLongShouldBeRejected() throws InterruptedException {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        try (SolveScheduler scheduler = new SolveScheduler(1, 1, Duration.ofMillis(20))) {
+            scheduler.submit("dial", solver -> {
+                started.countDown();
+                await(release);
+                return 1;
+            });
+            started.await();
+
+            assertThatThrownBy(() -> scheduler.solve("dial", solver -> 2))
+                    .isInstanceOf(RejectedExecutionException.class);
+            release.countDown();
+        }
+    }
+
+    @Test
+    void unknownAlgorithmShouldBeRejected() {
+        try (SolveScheduler scheduler = new SolveScheduler(1, 1, Duration.ofSeconds(1))) {
+            assertThatThrownBy(() -> scheduler.submit("magic", solver -> 1))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
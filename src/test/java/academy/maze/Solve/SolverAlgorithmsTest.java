@@ -2,10 +2,15 @@ package academy.maze.Solve;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import academy.maze.Generate.GenerationDFS;
+import academy.maze.Generate.GenerationPrima;
+import academy.maze.dto.CostGrid;
 import academy.maze.dto.Maze;
 import academy.maze.dto.Path;
 import academy.maze.dto.Point;
+import academy.maze.dto.Terrain;
 import academy.util.MazeTestFactory;
+import java.util.SplittableRandom;
 import org.junit.jupiter.api.Test;
 
 class SolverAlgorithmsTest {
@@ -41,4 +46,224 @@ class SolverAlgorithmsTest {
         assertThat(path.points())
                 .containsExactly(new Point(1, 1), new Point(1, 2), new Point(1, 3), new Point(2, 3), new Point(3, 3));
     }
+
+    @Test
+    void aStarShouldBreakTiesByRowThenColumnInOpenRoom() {
+        Maze room = MazeTestFactory.fromStringGrid("#####", "#   #", "#   #", "#   #", "#####");
+        Solver solver = new SolverAStar();
+
+        Path path = solver.solve(room, new Point(1, 1), new Point(3, 3));
+
+        assertThat(path.points())
+                .containsExactly(new Point(1, 1), new Point(1, 2), new Point(1, 3), new Point(2, 3), new Point(3, 3));
+    }
+
+    @Test
+    void aStarShouldReturnSingleCellWhenStartIsEnd() {
+        Solver solver = new SolverAStar();
+
+        Path path = solver.solve(SIMPLE_MAZE, new Point(3, 1), new Point(3, 1));
+
+        assertThat(path.points()).containsExactly(new Point(3, 1));
+    }
+
+    @Test
+    void dialShouldReturnShortestPath() {
+        Solver solver = new SolverDial();
+
+        Path path = solver.solve(SIMPLE_MAZE, new Point(1, 1), new Point(3, 3));
+
+        assertThat(path.points())
+                .containsExactly(new Point(1, 1), new Point(1, 2), new Point(1, 3), new Point(2, 3), new Point(3, 3));
+    }
+
+    @Test
+    void dialShouldReturnEmptyPathWhenBlocked() {
+        Maze blocked = MazeTestFactory.fromStringGrid("#####", "#   #", "#####", "#   #", "#####");
+
+        Path path = new SolverDial().solve(blocked, new Point(1, 1), new Point(3, 3));
+
+        assertThat(path.points()).isEmpty();
+    }
+
+    @Test
+    void bidirectionalSearchShouldReturnShortestPath() {
+        for (boolean heuristic : new boolean[] {false, true}) {
+            Path path = new SolverBidirectional(heuristic).solve(SIMPLE_MAZE, new Point(1, 1), new Point(3, 3));
+
+            assertThat(path.points())
+                    .containsExactly(
+                            new Point(1, 1), new Point(1, 2), new Point(1, 3), new Point(2, 3), new Point(3, 3));
+        }
+    }
+
+    @Test
+    void bidirectionalSearchShouldMatchAStarLengthOnGeneratedMaze() {
+        Maze maze = new GenerationDFS().generate(15, 15);
+        Point start = new Point(1, 1);
+        Point end = new Point(maze.x() - 2, maze.y() - 2);
+        int expected = new SolverAStar().solve(maze, start, end).points().length;
+
+        for (boolean heuristic : new boolean[] {false, true}) {
+            Point[] points = new SolverBidirectional(heuristic).solve(maze, start, end).points();
+
+            assertThat(points).hasSize(expected);
+            assertThat(points[0]).isEqualTo(start);
+            assertThat(points[points.length - 1]).isEqualTo(end);
+        }
+    }
+
+    @Test
+    void bidirectionalSearchShouldReturnEmptyPathWhenBlocked() {
+        Maze blocked = MazeTestFactory.fromStringGrid("#####", "#   #", "#####", "#   #", "#####");
+
+        Path path = new SolverBidirectional(true).solve(blocked, new Point(1, 1), new Point(3, 3));
+
+        assertThat(path.points()).isEmpty();
+    }
+
+    @Test
+    void corridorSolverShouldReturnShortestPath() {
+        for (boolean heuristic : new boolean[] {false, true}) {
+            Path path = new SolverCorridor(heuristic).solve(SIMPLE_MAZE, new Point(1, 1), new Point(3, 3));
+
+            assertThat(path.points())
+                    .containsExactly(
+                            new Point(1, 1), new Point(1, 2), new Point(1, 3), new Point(2, 3), new Point(3, 3));
+        }
+    }
+
+    @Test
+    void corridorSolverShouldTakeShorterSideOfRing() {
+        Maze ring = MazeTestFactory.fromStringGrid("#####", "#   #", "# # #", "#   #", "#####");
+
+        Path path = new SolverCorridor(false).solve(ring, new Point(1, 3), new Point(3, 2));
+
+        assertThat(path.points()).containsExactly(new Point(1, 3), new Point(2, 3), new Point(3, 3), new Point(3, 2));
+    }
+
+    @Test
+    void corridorSolverShouldMatchDijkstraBetweenAnyCells() {
+        Maze maze = MazeTestFactory.fromStringGrid(
+                "#########", "#   #   #", "# # # # #", "#       #", "### ### #", "#   #   #", "#########");
+        Solver dijkstra = new SolverDijkstra();
+        Solver[] solvers = {new SolverCorridor(false), new SolverCorridor(true)};
+
+        for (int a = 0; a < maze.x() * maze.y(); a++) {
+            for (int b = 0; b < maze.x() * maze.y(); b++) {
+                Point start = new Point(a / maze.y(), a % maze.y());
+                Point end = new Point(b / maze.y(), b % maze.y());
+                if (maze.isWall(start.x(), start.y()) || maze.isWall(end.x(), end.y())) continue;
+                int expected = dijkstra.solve(maze, start, end).points().length;
+
+                for (Solver solver : solvers) {
+                    Point[] points = solver.solve(maze, start, end).points();
+
+                    assertThat(points).hasSize(expected);
+                    if (expected > 0) {
+                        assertThat(points[0]).isEqualTo(start);
+                        assertThat(points[points.length - 1]).isEqualTo(end);
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    void corridorSolverShouldReturnEmptyPathWhenBlocked() {
+        Maze blocked = MazeTestFactory.fromStringGrid("#####", "#   #", "#####", "#   #", "#####");
+
+        Path path = new SolverCorridor(true).solve(blocked, new Point(1, 1), new Point(3, 3));
+
+        assertThat(path.points()).isEmpty();
+    }
+
+    @Test
+    void treeSolverShouldFallBackToSearchOnCycles() {
+        Maze ring = MazeTestFactory.fromStringGrid("#####", "#   #", "# # #", "#   #", "#####");
+        Solver solver = new SolverTree();
+
+        Path path = solver.solve(ring, new Point(1, 1), new Point(3, 3));
+
+        assertThat(path.points()).hasSize(5);
+        assertThat(solver.solve(SIMPLE_MAZE, new Point(1, 1), new Point(3, 3)).points())
+                .containsExactly(new Point(1, 1), new Point(1, 2), new Point(1, 3), new Point(2, 3), new Point(3, 3));
+    }
+
+    @Test
+    void weightedSolversShouldWalkAroundSwamp() {
+        Maze maze = MazeTestFactory.weightedFromStringGrid("#######", "#  ~~ #", "# ### #", "#     #", "#######");
+        Solver[] solvers = {new SolverDijkstra(), new SolverAStar(), new SolverDial(), new SolverJumpPoint()};
+
+        for (Solver solver : solvers) {
+            Point[] points = solver.solve(maze, new Point(1, 1), new Point(1, 5)).points();
+
+            assertThat(points).hasSize(9);
+            assertThat(points).doesNotContain(new Point(1, 3), new Point(1, 4));
+        }
+    }
+
+    @Test
+    void weightedSolversShouldAgreeOnPathCost() {
+        SplittableRandom random = new SplittableRandom(21);
+        Maze plain = new GenerationPrima().generate(12, 12, 21);
+        CostGrid costs = new CostGrid(plain.x(), plain.y());
+        for (int i = 1; i < plain.x() - 1; i++) {
+            for (int j = 1; j < plain.y() - 1; j++) {
+                if (random.nextInt(8) == 0) plain.grid().setPath(i, j);
+                costs.set(i, j, Terrain.values()[random.nextInt(Terrain.values().length)]);
+            }
+        }
+        Maze maze = new Maze(plain.grid(), costs);
+        Solver dijkstra = new SolverDijkstra();
+        Solver[] solvers = {new SolverAStar(), new SolverDial()};
+
+        for (int query = 0; query < 30; query++) {
+            Point start = new Point(1 + 2 * random.nextInt(12), 1 + 2 * random.nextInt(12));
+            Point end = new Point(1 + 2 * random.nextInt(12), 1 + 2 * random.nextInt(12));
+            int expected = cost(maze, dijkstra.solve(maze, start, end).points());
+
+            for (Solver solver : solvers) {
+                assertThat(cost(maze, solver.solve(maze, start, end).points())).isEqualTo(expected);
+            }
+        }
+    }
+
+    @Test
+    void reusedSolverShouldMatchFreshSolverAcrossQueries() {
+        Maze maze = new GenerationDFS().generate(12, 9, 4);
+        Maze other = new GenerationDFS().generate(5, 20, 4);
+        Solver[] reused = {
+            new SolverAStar(),
+            new SolverDial(),
+            new SolverDijkstra(),
+            new SolverBidirectional(true),
+            new SolverCorridor(true),
+            new SolverTree()
+        };
+
+        for (Solver solver : reused) {
+            for (Maze current : new Maze[] {maze, other, maze}) {
+                int last = current.x() - 2, right = current.y() - 2;
+                Point[][] queries = {
+                    {new Point(1, 1), new Point(last, right)},
+                    {new Point(last, 1), new Point(1, right)},
+                    {new Point(3, 3), new Point(3, 3)}
+                };
+                for (Point[] query : queries) {
+                    Path fresh = new SolverAStar().solve(current, query[0], query[1]);
+
+                    assertThat(solver.solve(current, query[0], query[1]).points()).hasSize(fresh.points().length);
+                }
+            }
+        }
+    }
+
+    private static int cost(Maze maze, Point[] points) {
+        int cost = 0;
+        for (int i = 1; i < points.length; i++) {
+            cost += maze.costs().cost(points[i].x(), points[i].y());
+        }
+        return cost;
+    }
 }
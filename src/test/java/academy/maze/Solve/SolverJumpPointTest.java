@@ -0,0 +1,95 @@
+package academy.maze.Solve;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import academy.maze.Generate.GenerationPrima;
+import academy.maze.dto.BitGrid;
+import academy.maze.dto.Maze;
+import academy.maze.dto.Point;
+import java.util.SplittableRandom;
+import org.junit.jupiter.api.Test;
+
+class SolverJumpPointTest {
+
+    @Test
+    void pathLengthsShouldMatchAStarInRoomsWithObstacles() {
+        SplittableRandom random = new SplittableRandom(17);
+        Solver jps = new SolverJumpPoint();
+        Solver aStar = new SolverAStar();
+
+        for (int round = 0; round < 200; round++) {
+            Maze room = randomRoom(1 + random.nextInt(20), 1 + random.nextInt(20), random.nextInt(40), random);
+            for (int query = 0; query < 10; query++) {
+                Point start = new Point(random.nextInt(room.x()), random.nextInt(room.y()));
+                Point end = new Point(random.nextInt(room.x()), random.nextInt(room.y()));
+                if (room.isWall(start.x(), start.y()) || room.isWall(end.x(), end.y())) continue;
+
+                assertPathLike(room, jps.solve(room, start, end).points(), aStar.solve(room, start, end).points());
+            }
+        }
+    }
+
+    @Test
+    void pathLengthsShouldMatchAStarOnGeneratedMaze() {
+        Maze maze = new GenerationPrima().generate(15, 12, 8);
+        Point start = new Point(1, 1);
+        Point end = new Point(maze.x() - 2, maze.y() - 2);
+
+        assertPathLike(
+                maze,
+                new SolverJumpPoint().solve(maze, start, end).points(),
+                new SolverAStar().solve(maze, start, end).points());
+    }
+
+    @Test
+    void openRoomShouldNeedFewExpansions() {
+        BitGrid grid = new BitGrid(200, 200);
+        for (int i = 0; i < 200; i++) {
+            for (int j = 0; j < 200; j++) {
+                if (j != 100 || i < 10) grid.setPath(i, j);
+            }
+        }
+        Maze room = new Maze(grid);
+        SolverJumpPoint solver = new SolverJumpPoint();
+
+        Point[] path = solver.solve(room, new Point(199, 0), new Point(199, 199)).points();
+
+        assertThat(path).hasSize(new SolverAStar().solve(room, new Point(199, 0), new Point(199, 199)).points().length);
+        assertThat(solver.expansions()).isLessThan(100);
+    }
+
+    @Test
+    void blockedRoomShouldGiveEmptyPath() {
+        BitGrid grid = new BitGrid(3, 3);
+        grid.setPath(0, 0);
+        grid.setPath(2, 2);
+
+        Point[] path = new SolverJumpPoint().solve(new Maze(grid), new Point(0, 0), new Point(2, 2)).points();
+
+        assertThat(path).isEmpty();
+    }
+
+    private static Maze randomRoom(int rows, int cols, int wallPercent, SplittableRandom random) {
+        BitGrid grid = new BitGrid(rows, cols);
+        for (int i = 0; i < rows; i++) {
+            for (int j = 0; j < cols; j++) {
+                if (random.nextInt(100) >= wallPercent) grid.setPath(i, j);
+            }
+        }
+        return new Maze(grid);
+    }
+
+    private static void assertPathLike(Maze maze, Point[] actual, Point[] expected) {
+        assertThat(actual).hasSize(expected.length);
+        if (expected.length == 0) return;
+        assertThat(actual[0]).isEqualTo(expected[0]);
+        assertThat(actual[actual.length - 1]).isEqualTo(expected[expected.length - 1]);
+        for (int i = 0; i < actual.length; i++) {
+            assertThat(maze.isPath(actual[i].x(), actual[i].y())).isTrue();
+            if (i > 0) {
+                int step = Math.abs(actual[i].x() - actual[i - 1].x()) + Math.abs(actual[i].y() - actual[i - 1].y());
+                assertThat(step).isEqualTo(1);
+            }
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package academy.maze.Solve;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+class SolverWorkspaceTest {
+
+    @Test
+    void newSearchShouldForgetPreviousDistances() {
+        SolverWorkspace workspace = new SolverWorkspace();
+        workspace.begin(4);
+        workspace.reach(0, 0, -1);
+        workspace.reach(2, 5, 0);
+        workspace.settle(2);
+
+        assertThat(workspace.distance(2)).isEqualTo(5);
+        assertThat(workspace.isSettled(2)).isTrue();
+
+        workspace.begin(4);
+
+        assertThat(workspace.distance(0)).isEqualTo(Integer.MAX_VALUE);
+        assertThat(workspace.distance(2)).isEqualTo(Integer.MAX_VALUE);
+        assertThat(workspace.isSettled(2)).isFalse();
+    }
+
+    @Test
+    void reachedCellShouldKeepDistanceAndParentUntilSettled() {
+        SolverWorkspace workspace = new SolverWorkspace();
+        workspace.begin(3);
+        workspace.reach(1, 7, 0);
+
+        assertThat(workspace.isSettled(1)).isFalse();
+        assertThat(workspace.distance(1)).isEqualTo(7);
+        assertThat(workspace.parents()[1]).isEqualTo(0);
+
+        workspace.settle(1);
+
+        assertThat(workspace.isSettled(1)).isTrue();
+        assertThat(workspace.distance(1)).isEqualTo(7);
+    }
+
+    @Test
+    void workspaceShouldGrowForLargerMaze() {
+        SolverWorkspace workspace = new SolverWorkspace();
+        workspace.begin(2);
+        workspace.reach(1, 1, 0);
+
+        workspace.begin(10);
+        workspace.reach(9, 3, 8);
+
+        assertThat(workspace.distance(1)).isEqualTo(Integer.MAX_VALUE);
+        assertThat(workspace.distance(9)).isEqualTo(3);
+        assertThat(workspace.heap().isEmpty()).isTrue();
+    }
+}
@@ -0,0 +1,61 @@
+package academy.maze.Solve;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import academy.maze.Generate.GenerationDFS;
+import academy.maze.dto.Maze;
+import academy.maze.dto.Point;
+import academy.util.MazeTestFactory;
+import org.junit.jupiter.api.Test;
+
+class TreePathOracleTest {
+
+    @Test
+    void oracleShouldMatchSearchOnPerfectMaze() {
+        Maze maze = new GenerationDFS().generate(8, 6, 9);
+        TreePathOracle oracle = TreePathOracle.of(maze);
+        Solver search = new SolverAStar();
+
+        assertThat(oracle.isTree()).isTrue();
+        for (int a = 0; a < maze.x() * maze.y(); a += 3) {
+            for (int b = 0; b < maze.x() * maze.y(); b++) {
+                Point start = new Point(a / maze.y(), a % maze.y());
+                Point end = new Point(b / maze.y(), b % maze.y());
+                if (maze.isWall(start.x(), start.y()) || maze.isWall(end.x(), end.y())) continue;
+                Point[] expected = search.solve(maze, start, end).points();
+
+                assertThat(oracle.path(start, end).points()).containsExactly(expected);
+                assertThat(oracle.distance(start, end)).isEqualTo(expected.length - 1);
+            }
+        }
+    }
+
+    @Test
+    void wallPointShouldGiveNoPath() {
+        Maze maze = MazeTestFactory.fromStringGrid("#####", "#   #", "### #", "#   #", "#####");
+        TreePathOracle oracle = TreePathOracle.of(maze);
+
+        assertThat(oracle.distance(new Point(1, 1), new Point(0, 0))).isEqualTo(-1);
+        assertThat(oracle.path(new Point(1, 1), new Point(2, 2)).points()).isEmpty();
+        assertThat(oracle.distance(new Point(1, 1), new Point(3, 1))).isEqualTo(6);
+    }
+
+    @Test
+    void mazeWithCycleShouldNotBeTree() {
+        Maze ring = MazeTestFactory.fromStringGrid("#####", "#   #", "# # #", "#   #", "#####");
+
+        TreePathOracle oracle = TreePathOracle.of(ring);
+
+        assertThat(oracle.isTree()).isFalse();
+        assertThatThrownBy(() -> oracle.path(new Point(1, 1), new Point(3, 3)))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void disconnectedMazeShouldNotBeTree() {
+        Maze blocked = MazeTestFactory.fromStringGrid("#####", "#   #", "#####", "#   #", "#####");
+
+        assertThat(TreePathOracle.of(blocked).isTree()).isFalse();
+    }
+}
@@ -0,0 +1,80 @@
+package academy.maze.dto;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.Test;
+
+class BitGridTest {
+
+    @Test
+    void newGridShouldContainOnlyWalls() {
+        BitGrid grid = new BitGrid(3, 70);
+
+        for (int r = 0; r < 3; r++) {
+            for (int c = 0; c < 70; c++) {
+                assertThat(grid.isWall(r, c)).isTrue();
+            }
+        }
+    }
+
+    @Test
+    void setShouldToggleSingleCellAcrossWordBoundary() {
+        BitGrid grid = new BitGrid(2, 40);
+
+        grid.setPath(1, 23);
+        grid.setPath(1, 24);
+        grid.setWall(1, 23);
+
+        assertThat(grid.get(1, 24)).isEqualTo(CellType.PATH);
+        assertThat(grid.get(1, 23)).isEqualTo(CellType.WALL);
+        assertThat(grid.get(0, 24)).isEqualTo(CellType.WALL);
+        assertThat(grid.isPath(64L)).isTrue();
+    }
+
+    @Test
+    void ofShouldRoundTripCells() {
+        CellType[][] cells = {
+            {CellType.WALL, CellType.PATH},
+            {CellType.PATH, CellType.WALL}
+        };
+
+        BitGrid grid = BitGrid.of(cells, 2, 2);
+
+        assertThat(grid.toCells()).isDeepEqualTo(cells);
+        assertThat(grid.copy()).isEqualTo(grid);
+    }
+
+    @Test
+    void withRowsShouldKeepExistingRowsAndPadWithWalls() {
+        BitGrid grid = new BitGrid(3, 5);
+        grid.setPath(0, 1);
+        grid.setPath(2, 4);
+
+        BitGrid shrunk = grid.withRows(1);
+        BitGrid grown = grid.withRows(4);
+
+        assertThat(shrunk.rows()).isEqualTo(1);
+        assertThat(shrunk.isPath(0, 1)).isTrue();
+        assertThat(shrunk.withRows(3)).isNotEqualTo(grid);
+        assertThat(grown.isPath(2, 4)).isTrue();
+        assertThat(grown.isWall(3, 4)).isTrue();
+    }
+
+    @Test
+    void frozenGridShouldRejectWritesButCopyShouldNot() {
+        BitGrid grid = new BitGrid(2, 2).freeze();
+
+        assertThatThrownBy(() -> grid.setPath(0, 0)).isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> grid.setWord(0, 1)).isInstanceOf(IllegalStateException.class);
+        BitGrid copy = grid.copy();
+        copy.setPath(0, 0);
+        assertThat(copy.isFrozen()).isFalse();
+        assertThat(grid.isWall(0, 0)).isTrue();
+    }
+
+    @Test
+    void negativeDimensionsShouldBeRejected() {
+        assertThatThrownBy(() -> new BitGrid(-1, 3)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,54 @@
+package academy.maze.dto;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+class CostGridTest {
+
+    @Test
+    void newGridShouldCostAsPlainPath() {
+        CostGrid costs = new CostGrid(2, 3);
+
+        assertThat(costs.cost(1, 2)).isEqualTo(Terrain.PATH.cost());
+        assertThat(costs.terrain(0, 0)).isEqualTo(Terrain.PATH);
+        assertThat(costs.minCost()).isEqualTo(Terrain.PATH.cost());
+        assertThat(costs.maxCost()).isEqualTo(Terrain.PATH.cost());
+    }
+
+    @Test
+    void setShouldWidenCostBounds() {
+        CostGrid costs = new CostGrid(2, 3);
+
+        costs.set(0, 1, Terrain.SWAMP);
+        costs.set(1, 2, Terrain.ROAD);
+
+        assertThat(costs.terrain(0, 1)).isEqualTo(Terrain.SWAMP);
+        assertThat(costs.cost(1 * 3 + 2)).isEqualTo(Terrain.ROAD.cost());
+        assertThat(costs.minCost()).isEqualTo(Terrain.ROAD.cost());
+        assertThat(costs.maxCost()).isEqualTo(Terrain.SWAMP.cost());
+    }
+
+    @Test
+    void withRowsShouldKeepCostsAndFillNewRows() {
+        CostGrid costs = new CostGrid(1, 2);
+        costs.set(0, 1, Terrain.SAND);
+
+        CostGrid grown = costs.withRows(3);
+
+        assertThat(grown.rows()).isEqualTo(3);
+        assertThat(grown.terrain(0, 1)).isEqualTo(Terrain.SAND);
+        assertThat(grown.terrain(2, 1)).isEqualTo(Terrain.PATH);
+        assertThat(grown.withRows(1)).isEqualTo(costs);
+    }
+
+    @Test
+    void terrainShouldBeFoundBySymbolAndCost() {
+        for (Terrain terrain : Terrain.values()) {
+            assertThat(Terrain.ofSymbol(terrain.symbol())).isEqualTo(terrain);
+            assertThat(Terrain.ofCost(terrain.cost())).isEqualTo(terrain);
+        }
+        assertThat(Terrain.ofSymbol('#')).isNull();
+        assertThat(Terrain.ofCost(0)).isNull();
+    }
+}
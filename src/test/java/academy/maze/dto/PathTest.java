@@ -0,0 +1,55 @@
+package academy.maze.dto;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class PathTest {
+
+    @Test
+    void cellsShouldDecodeIntoRowsAndColumns() {
+        Path path = Path.of(new int[] {6, 7, 12}, 5);
+
+        assertThat(path.length()).isEqualTo(3);
+        assertThat(path.row(2)).isEqualTo(2);
+        assertThat(path.col(2)).isEqualTo(2);
+        assertThat(path.points()).containsExactly(new Point(1, 1), new Point(1, 2), new Point(2, 2));
+    }
+
+    @Test
+    void iteratorShouldVisitPointsInOrder() {
+        Point[] points = {new Point(3, 0), new Point(2, 0), new Point(2, 1)};
+        List<Point> visited = new ArrayList<>();
+
+        for (Point point : new Path(points)) {
+            visited.add(point);
+        }
+
+        assertThat(visited).containsExactly(points);
+    }
+
+    @Test
+    void pathsShouldBeEqualRegardlessOfWidth() {
+        Path fromCells = Path.of(new int[] {11, 12}, 10);
+        Path fromPoints = new Path(new Point[] {new Point(1, 1), new Point(1, 2)});
+
+        assertThat(fromPoints).isEqualTo(fromCells);
+        assertThat(fromPoints.hashCode()).isEqualTo(fromCells.hashCode());
+    }
+
+    @Test
+    void emptyPathShouldHaveNoPoints() {
+        assertThat(Path.empty().isEmpty()).isTrue();
+        assertThat(Path.empty().points()).isEmpty();
+        assertThat(new Path(new Point[0])).isEqualTo(Path.empty());
+    }
+
+    @Test
+    void negativeCoordinatesShouldBeRejected() {
+        assertThatThrownBy(() -> new Path(new Point[] {new Point(-1, 0)}))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -1,7 +1,10 @@
 package academy.util;
 
+import academy.maze.dto.BitGrid;
 import academy.maze.dto.CellType;
+import academy.maze.dto.CostGrid;
 import academy.maze.dto.Maze;
+import academy.maze.dto.Terrain;
 
 /** Small helpers for turning ASCII mazes into {@link Maze} objects for tests. */
 public final class MazeTestFactory {
@@ -23,4 +26,18 @@ public final class MazeTestFactory {
         }
         return new Maze(cells, rows.length, cols);
     }
+
+    /** Like {@link #fromStringGrid(String...)}, but terrain symbols such as {@code ~} or {@code =} set cell costs. */
+    public static Maze weightedFromStringGrid(String... rows) {
+        Maze plain = fromStringGrid(rows);
+        BitGrid grid = plain.grid();
+        CostGrid costs = new CostGrid(plain.x(), plain.y());
+        for (int i = 0; i < plain.x(); i++) {
+            for (int j = 0; j < plain.y(); j++) {
+                Terrain terrain = Terrain.ofSymbol(rows[i].charAt(j));
+                if (terrain != null) costs.set(i, j, terrain);
+            }
+        }
+        return new Maze(grid, costs);
+    }
 }
@@ -0,0 +1,45 @@
+package academy.util;
+
+import academy.maze.dto.Maze;
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+/** Проверка, что сгенерированный лабиринт идеальный: все клетки связны и нет циклов. */
+public final class PerfectMazeCheck {
+    private PerfectMazeCheck() {}
+
+    /**
+     * Лабиринт из {@code w x h} клеток идеален, если открыто ровно {@code w * h} клеток и {@code w * h - 1} проходов
+     * между ними, и все они достижимы из клетки {@code (1, 1)}.
+     */
+    public static boolean isPerfect(Maze maze) {
+        int rows = maze.x(), cols = maze.y();
+        long cells = (long) (rows / 2) * (cols / 2);
+        long open = 0;
+        for (int r = 0; r < rows; r++) {
+            for (int c = 0; c < cols; c++) {
+                if (maze.isPath(r, c)) open++;
+            }
+        }
+        if (open != 2 * cells - 1) return false;
+
+        boolean[][] seen = new boolean[rows][cols];
+        Deque<int[]> queue = new ArrayDeque<>();
+        queue.add(new int[] {1, 1});
+        seen[1][1] = true;
+        long reached = 0;
+        int[][] dirs = {{1, 0}, {-1, 0}, {0, 1}, {0, -1}};
+        while (!queue.isEmpty()) {
+            int[] cur = queue.poll();
+            reached++;
+            for (int[] d : dirs) {
+                int nr = cur[0] + d[0], nc = cur[1] + d[1];
+                if (nr >= 0 && nr < rows && nc >= 0 && nc < cols && !seen[nr][nc] && maze.isPath(nr, nc)) {
+                    seen[nr][nc] = true;
+                    queue.add(new int[] {nr, nc});
+                }
+            }
+        }
+        return reached == open;
+    }
+}